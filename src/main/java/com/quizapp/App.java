@@ -6,6 +6,10 @@ import com.quizapp.util.SessionManager;
 import com.quizapp.dao.UserDAO;
 import com.quizapp.model.User;
 import com.quizapp.service.AuthService;
+import com.quizapp.service.LeaderboardEngine;
+import com.quizapp.service.LeaderboardStatsService;
+import com.quizapp.service.RankService;
+import com.quizapp.service.QuizResultWriter;
 import com.quizapp.service.SessionService;
 import com.quizapp.util.ThemeManager;
 import com.quizapp.util.AccessibilityManager;
@@ -26,6 +30,14 @@ public class App {
             DatabaseInitializer.initializeDatabase();
             System.out.println("Database initialized successfully");
 
+            // Start the result writer so results journaled by a previous run are flushed
+            QuizResultWriter.getInstance();
+
+            // Subscribe the in-memory leaderboards to quiz completions before any quiz can finish
+            LeaderboardEngine.getInstance();
+            RankService.getInstance();
+            LeaderboardStatsService.getInstance();
+
             // Load application settings
             System.out.println("Loading application settings...");
             ThemeManager.loadSettings();
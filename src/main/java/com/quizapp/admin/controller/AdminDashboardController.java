@@ -3,6 +3,7 @@ package com.quizapp.admin.controller;
 import com.quizapp.admin.service.AdminAnalyticsService;
 import com.quizapp.admin.service.ImportExportService;
 import com.quizapp.admin.service.UserManagementService;
+import com.quizapp.admin.model.ImportResult;
 import com.quizapp.admin.model.QuizAttempt;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
@@ -138,10 +139,10 @@ public class AdminDashboardController {
      * Import questions from CSV format
      * @param inputFile the input file to read from
      * @param categoryId the category ID to import questions into
-     * @return number of questions imported
+     * @return number of questions imported and the rows that were not
      * @throws IOException if an I/O error occurs
      */
-    public int importQuestionsFromCSV(File inputFile, int categoryId) throws IOException {
+    public ImportResult importQuestionsFromCSV(File inputFile, int categoryId) throws IOException {
         return importExportService.importQuestionsFromCSV(inputFile, categoryId);
     }
     
@@ -149,10 +150,10 @@ public class AdminDashboardController {
      * Import questions from JSON format
      * @param inputFile the input file to read from
      * @param categoryId the category ID to import questions into
-     * @return number of questions imported
+     * @return number of questions imported and the rows that were not
      * @throws IOException if an I/O error occurs
      */
-    public int importQuestionsFromJSON(File inputFile, int categoryId) throws IOException {
+    public ImportResult importQuestionsFromJSON(File inputFile, int categoryId) throws IOException {
         return importExportService.importQuestionsFromJSON(inputFile, categoryId);
     }
     
@@ -1,10 +1,13 @@
 package com.quizapp.admin.dao;
 
 import com.quizapp.admin.model.QuizAttempt;
+import com.quizapp.dao.Page;
+import com.quizapp.dao.PageCursor;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Data Access Object interface for quiz attempts
@@ -24,6 +27,15 @@ public interface QuizAttemptDAO {
      */
     List<QuizAttempt> findByUserId(int userId);
     
+    /**
+     * Finds one page of a user's attempts, newest first
+     * @param userId the user ID
+     * @param after cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of attempts to return
+     * @return the page of attempts
+     */
+    Page<QuizAttempt> findPageByUserId(int userId, PageCursor after, int pageSize);
+    
     /**
      * Finds all attempts for a specific quiz
      * @param quizId the quiz ID
@@ -31,6 +43,15 @@ public interface QuizAttemptDAO {
      */
     List<QuizAttempt> findByQuizId(int quizId);
     
+    /**
+     * Finds one page of attempts for a quiz, newest first
+     * @param quizId the quiz ID
+     * @param after cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of attempts to return
+     * @return the page of attempts
+     */
+    Page<QuizAttempt> findPageByQuizId(int quizId, PageCursor after, int pageSize);
+    
     /**
      * Finds all attempts in a specific category
      * @param categoryId the category ID
@@ -38,6 +59,29 @@ public interface QuizAttemptDAO {
      */
     List<QuizAttempt> findByCategoryId(int categoryId);
     
+    /**
+     * Finds one page of attempts in a category, newest first
+     * @param categoryId the category ID
+     * @param after cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of attempts to return
+     * @return the page of attempts
+     */
+    Page<QuizAttempt> findPageByCategoryId(int categoryId, PageCursor after, int pageSize);
+    
+    /**
+     * Streams every attempt, newest first, without buffering the table in memory.
+     * The stream holds a database connection until closed.
+     * @return stream of attempts
+     */
+    Stream<QuizAttempt> streamAll();
+    
+    /**
+     * Streams all attempts in a category, newest first. The stream must be closed.
+     * @param categoryId the category ID
+     * @return stream of attempts
+     */
+    Stream<QuizAttempt> streamByCategoryId(int categoryId);
+    
     /**
      * Finds all attempts within a date range
      * @param start start date (inclusive)
@@ -12,6 +12,7 @@ import com.quizapp.model.Answer;
 import com.quizapp.model.Question;
 import com.quizapp.model.User;
 import com.quizapp.util.DatabaseUtil;
+import com.quizapp.util.TransactionManager;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -76,6 +77,10 @@ public class PendingQuestionDAOImpl implements PendingQuestionDAO {
 
     @Override
     public PendingQuestion create(PendingQuestion question) {
+        return TransactionManager.inTransaction(() -> insert(question));
+    }
+
+    private PendingQuestion insert(PendingQuestion question) {
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_PENDING_QUESTION, Statement.RETURN_GENERATED_KEYS)) {
             
@@ -107,7 +112,9 @@ public class PendingQuestionDAOImpl implements PendingQuestionDAO {
                     // Create associated answers
                     for (PendingAnswer answer : question.getAnswers()) {
                         answer.setPendingQuestionId(pendingId);
-                        pendingAnswerDAO.create(answer);
+                    }
+                    if (!question.getAnswers().isEmpty()) {
+                        pendingAnswerDAO.createBatch(question.getAnswers());
                     }
                     
                     return findById(pendingId).orElse(question);
@@ -220,6 +227,10 @@ public class PendingQuestionDAOImpl implements PendingQuestionDAO {
 
     @Override
     public boolean delete(int pendingId) {
+        return TransactionManager.inTransaction(() -> deleteWithAnswers(pendingId));
+    }
+
+    private boolean deleteWithAnswers(int pendingId) {
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_PENDING_QUESTION)) {
             
@@ -238,53 +249,45 @@ public class PendingQuestionDAOImpl implements PendingQuestionDAO {
 
     @Override
     public int approveAndConvertToQuestion(int pendingId, int reviewerId) {
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            conn.setAutoCommit(false);
-            
-            try {
-                // Get the pending question with answers
+        try {
+            // Question, answers and status change commit together or not at all
+            return TransactionManager.inTransaction(() -> {
                 Optional<PendingQuestion> optPendingQuestion = findById(pendingId);
                 if (!optPendingQuestion.isPresent()) {
                     throw new SQLException("Pending question not found with ID: " + pendingId);
                 }
-                
+
                 PendingQuestion pendingQuestion = optPendingQuestion.get();
                 List<PendingAnswer> pendingAnswers = pendingQuestion.getAnswers();
-                
+
                 if (pendingAnswers.isEmpty()) {
                     throw new SQLException("Pending question has no answers");
                 }
-                
-                // Create the question
+
                 Question question = new Question();
                 question.setCategoryId(pendingQuestion.getCategoryId());
                 question.setQuestionText(pendingQuestion.getQuestionText());
                 question.setDifficulty(pendingQuestion.getDifficulty());
-                
+
                 Question createdQuestion = questionDAO.create(question);
-                
-                // Create the answers
+
+                List<Answer> answers = new ArrayList<>(pendingAnswers.size());
                 for (PendingAnswer pendingAnswer : pendingAnswers) {
                     Answer answer = new Answer();
                     answer.setQuestionId(createdQuestion.getQuestionId());
                     answer.setAnswerText(pendingAnswer.getAnswerText());
                     answer.setCorrect(pendingAnswer.isCorrect());
-                    
-                    answerDao.create(answer);
+                    answers.add(answer);
+                }
+                answerDao.createAll(answers);
+
+                if (!updateStatus(pendingId, "approved", reviewerId, null)) {
+                    throw new SQLException("Pending question status was not updated: " + pendingId);
                 }
-                
-                // Update the pending question status
-                updateStatus(pendingId, "approved", reviewerId, null);
-                
-                conn.commit();
+
                 return createdQuestion.getQuestionId();
-            } catch (Exception e) {
-                conn.rollback();
-                throw e;
-            } finally {
-                conn.setAutoCommit(true);
-            }
-        } catch (SQLException e) {
+            });
+        } catch (RuntimeException e) {
             LOGGER.log(Level.SEVERE, "Error approving and converting pending question", e);
             throw new RuntimeException("Error approving and converting pending question", e);
         }
@@ -0,0 +1,268 @@
+package com.quizapp.admin.dao.impl;
+
+import com.quizapp.admin.dao.QuestionResponseDAO;
+import com.quizapp.admin.model.QuestionResponse;
+import com.quizapp.config.DatabaseConfig;
+import com.quizapp.util.DatabaseUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class QuestionResponseDAOImpl implements QuestionResponseDAO {
+    private static final Logger LOGGER = Logger.getLogger(QuestionResponseDAOImpl.class.getName());
+
+    private static final String INSERT_RESPONSE =
+            "INSERT INTO question_responses (attempt_id, question_id, selected_answer_id, is_correct, time_taken) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_RESPONSES_PREFIX =
+            "INSERT INTO question_responses (attempt_id, question_id, selected_answer_id, is_correct, time_taken) VALUES ";
+
+    private static final String INSERT_RESPONSES_ROW = "(?, ?, ?, ?, ?)";
+
+    private static final String SELECT_BY_ATTEMPT_ID =
+            "SELECT r.*, q.question_text " +
+            "FROM question_responses r " +
+            "JOIN questions q ON r.question_id = q.question_id " +
+            "WHERE r.attempt_id = ? " +
+            "ORDER BY r.response_id";
+
+    private static final String SELECT_BY_QUESTION_ID =
+            "SELECT r.*, q.question_text " +
+            "FROM question_responses r " +
+            "JOIN questions q ON r.question_id = q.question_id " +
+            "WHERE r.question_id = ? " +
+            "ORDER BY r.response_id";
+
+    private static final String SELECT_CORRECT_PERCENTAGE =
+            "SELECT AVG(is_correct) * 100 FROM question_responses WHERE question_id = ?";
+
+    private static final String SELECT_AVERAGE_TIME =
+            "SELECT AVG(time_taken) FROM question_responses WHERE question_id = ? AND time_taken IS NOT NULL";
+
+    private static final String SELECT_COUNTS_PREFIX =
+            "SELECT question_id, SUM(is_correct) AS correct, SUM(1 - is_correct) AS incorrect " +
+            "FROM question_responses WHERE question_id IN (";
+
+    private static final String SELECT_MOST_INCORRECT =
+            "SELECT question_id FROM question_responses " +
+            "GROUP BY question_id " +
+            "ORDER BY AVG(is_correct) ASC, COUNT(*) DESC " +
+            "LIMIT ?";
+
+    private static final String SELECT_MOST_CORRECT =
+            "SELECT question_id FROM question_responses " +
+            "GROUP BY question_id " +
+            "ORDER BY AVG(is_correct) DESC, COUNT(*) DESC " +
+            "LIMIT ?";
+
+    @Override
+    public int create(QuestionResponse response) {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_RESPONSE, Statement.RETURN_GENERATED_KEYS)) {
+
+            bindResponse(stmt, 1, response);
+
+            int affectedRows = stmt.executeUpdate();
+            if (affectedRows == 0) {
+                throw new SQLException("Creating question response failed, no rows affected.");
+            }
+
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    int responseId = generatedKeys.getInt(1);
+                    response.setResponseId(responseId);
+                    return responseId;
+                } else {
+                    throw new SQLException("Creating question response failed, no ID obtained.");
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating question response", e);
+            throw new RuntimeException("Error creating question response", e);
+        }
+    }
+
+    /**
+     * Writes the responses as multi-row INSERT statements of up to {@link DatabaseConfig#getBatchSize()} rows
+     */
+    @Override
+    public int createBatch(List<QuestionResponse> responses) {
+        if (responses.isEmpty()) {
+            return 0;
+        }
+        int chunkSize = DatabaseConfig.getBatchSize();
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            int inserted = 0;
+            for (int start = 0; start < responses.size(); start += chunkSize) {
+                List<QuestionResponse> chunk = responses.subList(start, Math.min(start + chunkSize, responses.size()));
+                StringBuilder sql = new StringBuilder(INSERT_RESPONSES_PREFIX);
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? INSERT_RESPONSES_ROW : ", " + INSERT_RESPONSES_ROW);
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                    int index = 1;
+                    for (QuestionResponse response : chunk) {
+                        index = bindResponse(stmt, index, response);
+                    }
+                    inserted += stmt.executeUpdate();
+                }
+            }
+            return inserted;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating batch question responses", e);
+            throw new RuntimeException("Error creating batch question responses", e);
+        }
+    }
+
+    @Override
+    public List<QuestionResponse> findByAttemptId(int attemptId) {
+        return findResponses(SELECT_BY_ATTEMPT_ID, attemptId, "Error finding question responses by attempt ID");
+    }
+
+    @Override
+    public List<QuestionResponse> findByQuestionId(int questionId) {
+        return findResponses(SELECT_BY_QUESTION_ID, questionId, "Error finding question responses by question ID");
+    }
+
+    @Override
+    public double getCorrectAnswerPercentage(int questionId) {
+        return queryDouble(SELECT_CORRECT_PERCENTAGE, questionId, "Error getting correct answer percentage");
+    }
+
+    @Override
+    public double getAverageTimeByQuestion(int questionId) {
+        return queryDouble(SELECT_AVERAGE_TIME, questionId, "Error getting average time by question");
+    }
+
+    @Override
+    public Map<Integer, Map<String, Integer>> getCorrectResponseCountsByQuestions(List<Integer> questionIds) {
+        Map<Integer, Map<String, Integer>> counts = new HashMap<>();
+        if (questionIds.isEmpty()) {
+            return counts;
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_COUNTS_PREFIX);
+        for (int i = 0; i < questionIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(") GROUP BY question_id");
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < questionIds.size(); i++) {
+                stmt.setInt(i + 1, questionIds.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, Integer> questionCounts = new HashMap<>();
+                    questionCounts.put("correct", rs.getInt("correct"));
+                    questionCounts.put("incorrect", rs.getInt("incorrect"));
+                    counts.put(rs.getInt("question_id"), questionCounts);
+                }
+            }
+            return counts;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error getting response counts by questions", e);
+            throw new RuntimeException("Error getting response counts by questions", e);
+        }
+    }
+
+    @Override
+    public List<Integer> getMostIncorrectlyAnsweredQuestions(int limit) {
+        return queryQuestionIds(SELECT_MOST_INCORRECT, limit, "Error getting most incorrectly answered questions");
+    }
+
+    @Override
+    public List<Integer> getMostCorrectlyAnsweredQuestions(int limit) {
+        return queryQuestionIds(SELECT_MOST_CORRECT, limit, "Error getting most correctly answered questions");
+    }
+
+    /**
+     * Binds one response starting at the given parameter index
+     * @return the next free parameter index
+     */
+    private int bindResponse(PreparedStatement stmt, int index, QuestionResponse response) throws SQLException {
+        stmt.setInt(index++, response.getAttemptId());
+        stmt.setInt(index++, response.getQuestionId());
+        if (response.getSelectedAnswerId() >= 0) {
+            stmt.setInt(index++, response.getSelectedAnswerId());
+        } else {
+            stmt.setNull(index++, Types.INTEGER);
+        }
+        stmt.setBoolean(index++, response.isCorrect());
+        stmt.setInt(index++, response.getTimeTaken());
+        return index;
+    }
+
+    private List<QuestionResponse> findResponses(String sql, int id, String errorMessage) {
+        List<QuestionResponse> responses = new ArrayList<>();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    responses.add(mapResultSetToResponse(rs));
+                }
+            }
+            return responses;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    private double queryDouble(String sql, int questionId, String errorMessage) {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, questionId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getDouble(1) : 0.0;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    private List<Integer> queryQuestionIds(String sql, int limit, String errorMessage) {
+        List<Integer> questionIds = new ArrayList<>();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    questionIds.add(rs.getInt("question_id"));
+                }
+            }
+            return questionIds;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    private QuestionResponse mapResultSetToResponse(ResultSet rs) throws SQLException {
+        QuestionResponse response = new QuestionResponse();
+        response.setResponseId(rs.getInt("response_id"));
+        response.setAttemptId(rs.getInt("attempt_id"));
+        response.setQuestionId(rs.getInt("question_id"));
+        int selectedAnswerId = rs.getInt("selected_answer_id");
+        response.setSelectedAnswerId(rs.wasNull() ? -1 : selectedAnswerId);
+        response.setCorrect(rs.getBoolean("is_correct"));
+        response.setTimeTaken(rs.getInt("time_taken"));
+        response.setQuestionText(rs.getString("question_text"));
+        return response;
+    }
+}
@@ -2,6 +2,9 @@ package com.quizapp.admin.dao.impl;
 
 import com.quizapp.admin.dao.QuizAttemptDAO;
 import com.quizapp.admin.model.QuizAttempt;
+import com.quizapp.dao.Page;
+import com.quizapp.dao.PageCursor;
+import com.quizapp.dao.mapper.ResultStreams;
 import com.quizapp.util.DatabaseUtil;
 
 import java.sql.*;
@@ -12,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class QuizAttemptDAOImpl implements QuizAttemptDAO {
     private static final Logger LOGGER = Logger.getLogger(QuizAttemptDAOImpl.class.getName());
@@ -44,6 +48,13 @@ public class QuizAttemptDAOImpl implements QuizAttemptDAO {
             "WHERE a.category_id = ? " +
             "ORDER BY a.attempt_date DESC";
     
+    private static final String SELECT_ALL = 
+            "SELECT a.*, u.username, c.name AS category_name " +
+            "FROM quiz_attempts a " +
+            "JOIN users u ON a.user_id = u.user_id " +
+            "JOIN categories c ON a.category_id = c.category_id " +
+            "ORDER BY a.attempt_date DESC";
+    
     private static final String SELECT_BY_DATE_RANGE = 
             "SELECT a.*, u.username, c.name AS category_name " +
             "FROM quiz_attempts a " +
@@ -74,6 +85,14 @@ public class QuizAttemptDAOImpl implements QuizAttemptDAO {
             "FROM quiz_attempts " +
             "WHERE quiz_id = ?";
     
+    // Keyset pagination over (attempt_date, attempt_id), newest first
+    private static final String SELECT_PAGE_BY_USER_ID = pageQuery("user_id", false);
+    private static final String SELECT_PAGE_BY_USER_ID_AFTER = pageQuery("user_id", true);
+    private static final String SELECT_PAGE_BY_QUIZ_ID = pageQuery("quiz_id", false);
+    private static final String SELECT_PAGE_BY_QUIZ_ID_AFTER = pageQuery("quiz_id", true);
+    private static final String SELECT_PAGE_BY_CATEGORY_ID = pageQuery("category_id", false);
+    private static final String SELECT_PAGE_BY_CATEGORY_ID_AFTER = pageQuery("category_id", true);
+    
     private static final String COUNT_COMPLETIONS_BY_CATEGORY = 
             "SELECT COUNT(*) as completion_count " +
             "FROM quiz_attempts " +
@@ -177,6 +196,36 @@ public class QuizAttemptDAOImpl implements QuizAttemptDAO {
         return attempts;
     }
 
+    @Override
+    public Page<QuizAttempt> findPageByUserId(int userId, PageCursor after, int pageSize) {
+        String sql = after == null ? SELECT_PAGE_BY_USER_ID : SELECT_PAGE_BY_USER_ID_AFTER;
+        return findPage(sql, userId, after, pageSize, "Error finding page of quiz attempts by user ID");
+    }
+
+    @Override
+    public Page<QuizAttempt> findPageByQuizId(int quizId, PageCursor after, int pageSize) {
+        String sql = after == null ? SELECT_PAGE_BY_QUIZ_ID : SELECT_PAGE_BY_QUIZ_ID_AFTER;
+        return findPage(sql, quizId, after, pageSize, "Error finding page of quiz attempts by quiz ID");
+    }
+
+    @Override
+    public Page<QuizAttempt> findPageByCategoryId(int categoryId, PageCursor after, int pageSize) {
+        String sql = after == null ? SELECT_PAGE_BY_CATEGORY_ID : SELECT_PAGE_BY_CATEGORY_ID_AFTER;
+        return findPage(sql, categoryId, after, pageSize, "Error finding page of quiz attempts by category ID");
+    }
+
+    @Override
+    public Stream<QuizAttempt> streamAll() {
+        return ResultStreams.stream(SELECT_ALL, ResultStreams.StatementBinder.NONE,
+                (rs, columns) -> mapResultSetToQuizAttempt(rs));
+    }
+
+    @Override
+    public Stream<QuizAttempt> streamByCategoryId(int categoryId) {
+        return ResultStreams.stream(SELECT_BY_CATEGORY_ID, stmt -> stmt.setInt(1, categoryId),
+                (rs, columns) -> mapResultSetToQuizAttempt(rs));
+    }
+
     @Override
     public List<QuizAttempt> findByDateRange(LocalDate start, LocalDate end) {
         List<QuizAttempt> attempts = new ArrayList<>();
@@ -297,6 +346,56 @@ public class QuizAttemptDAOImpl implements QuizAttemptDAO {
         return 0;
     }
     
+    private static String pageQuery(String filterColumn, boolean afterCursor) {
+        return "SELECT a.*, u.username, c.name AS category_name " +
+               "FROM quiz_attempts a " +
+               "JOIN users u ON a.user_id = u.user_id " +
+               "JOIN categories c ON a.category_id = c.category_id " +
+               "WHERE a." + filterColumn + " = ? " +
+               (afterCursor ? "AND (a.attempt_date < ? OR (a.attempt_date = ? AND a.attempt_id < ?)) " : "") +
+               "ORDER BY a.attempt_date DESC, a.attempt_id DESC LIMIT ?";
+    }
+    
+    private Page<QuizAttempt> findPage(String sql, int filterValue, PageCursor after, int pageSize, String errorMessage) {
+        int limit = Page.clampPageSize(pageSize);
+        List<QuizAttempt> attempts = new ArrayList<>(limit);
+        boolean hasMore = false;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            stmt.setInt(index++, filterValue);
+            if (after != null) {
+                Timestamp afterDate = (Timestamp) after.getSortKey();
+                stmt.setTimestamp(index++, afterDate);
+                stmt.setTimestamp(index++, afterDate);
+                stmt.setInt(index++, after.getId());
+            }
+            // Fetch one extra row to learn whether another page follows
+            stmt.setInt(index, limit + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (attempts.size() == limit) {
+                        hasMore = true;
+                        break;
+                    }
+                    attempts.add(mapResultSetToQuizAttempt(rs));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+        
+        PageCursor next = null;
+        if (hasMore) {
+            QuizAttempt last = attempts.get(attempts.size() - 1);
+            next = new PageCursor(last.getAttemptDate(), last.getAttemptId());
+        }
+        return new Page<>(attempts, next);
+    }
+    
     private QuizAttempt mapResultSetToQuizAttempt(ResultSet rs) throws SQLException {
         QuizAttempt attempt = new QuizAttempt();
         attempt.setAttemptId(rs.getInt("attempt_id"));
@@ -0,0 +1,60 @@
+package com.quizapp.admin.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a question import: how many questions were stored and which source rows were not.
+ */
+public class ImportResult {
+    private final int imported;
+    private final List<RejectedRow> rejected;
+
+    public ImportResult(int imported, List<RejectedRow> rejected) {
+        this.imported = imported;
+        this.rejected = Collections.unmodifiableList(rejected);
+    }
+
+    /**
+     * Number of questions stored
+     */
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * Source rows that could not be read or stored, in file order
+     */
+    public List<RejectedRow> getRejected() {
+        return rejected;
+    }
+
+    /**
+     * A source row that was not imported
+     */
+    public static class RejectedRow {
+        private final int row;
+        private final String reason;
+
+        public RejectedRow(int row, String reason) {
+            this.row = row;
+            this.reason = reason;
+        }
+
+        /**
+         * 1-based position of the question in the file, not counting a header line
+         */
+        public int getRow() {
+            return row;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "Row " + row + ": " + reason;
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.quizapp.admin.service;
 
 import com.quizapp.admin.dao.QuizAttemptDAO;
 import com.quizapp.admin.dao.QuestionResponseDAO;
+import com.quizapp.admin.dao.impl.QuestionResponseDAOImpl;
 import com.quizapp.admin.dao.impl.QuizAttemptDAOImpl;
 import com.quizapp.admin.model.QuizAttempt;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
 import com.quizapp.dao.CategoryDAO;
+import com.quizapp.dao.Page;
+import com.quizapp.dao.PageCursor;
 import com.quizapp.dao.QuestionDAO;
 
 import java.time.LocalDate;
@@ -36,8 +39,7 @@ public class AdminAnalyticsService {
         // Initialize other DAOs
         this.categoryDAO = new CategoryDAO();
         this.questionDAO = new QuestionDAO();
-        // We'll implement QuestionResponseDAO later
-        this.questionResponseDAO = null;
+        this.questionResponseDAO = new QuestionResponseDAOImpl();
     }
     
     /**
@@ -120,6 +122,28 @@ public class AdminAnalyticsService {
         return quizAttemptDAO.findByUserId(userId);
     }
     
+    /**
+     * Get one page of a user's quiz attempts, newest first
+     * @param userId the user ID
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of attempts in the page
+     * @return the page of attempts
+     */
+    public Page<QuizAttempt> getAttemptsPageByUser(int userId, PageCursor after, int pageSize) {
+        return quizAttemptDAO.findPageByUserId(userId, after, pageSize);
+    }
+    
+    /**
+     * Get one page of quiz attempts in a category, newest first
+     * @param categoryId the category ID
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of attempts in the page
+     * @return the page of attempts
+     */
+    public Page<QuizAttempt> getAttemptsPageByCategory(int categoryId, PageCursor after, int pageSize) {
+        return quizAttemptDAO.findPageByCategoryId(categoryId, after, pageSize);
+    }
+    
     /**
      * Create pie chart for category completion counts
      * @return JFreeChart pie chart
@@ -200,4 +224,35 @@ public class AdminAnalyticsService {
     public int recordQuizAttempt(QuizAttempt attempt) {
         return quizAttemptDAO.create(attempt);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Get the questions users miss most often, based on recorded question responses
+     * @param limit maximum number of questions to return
+     * @return questions sorted by incorrect answer rate (highest first)
+     */
+    public List<Question> getMostMissedQuestions(int limit) {
+        List<Question> questions = new ArrayList<>();
+        for (int questionId : questionResponseDAO.getMostIncorrectlyAnsweredQuestions(limit)) {
+            questionDAO.findById(questionId).ifPresent(questions::add);
+        }
+        return questions;
+    }
+    
+    /**
+     * Get correct/incorrect response counts for the given questions
+     * @param questionIds the question IDs
+     * @return map of question ID to map with keys "correct" and "incorrect"
+     */
+    public Map<Integer, Map<String, Integer>> getResponseCountsByQuestions(List<Integer> questionIds) {
+        return questionResponseDAO.getCorrectResponseCountsByQuestions(questionIds);
+    }
+    
+    /**
+     * Get the average time users spend on a question
+     * @param questionId the question ID
+     * @return average time in seconds
+     */
+    public double getAverageTimeByQuestion(int questionId) {
+        return questionResponseDAO.getAverageTimeByQuestion(questionId);
+    }
+}
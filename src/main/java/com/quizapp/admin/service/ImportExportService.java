@@ -1,12 +1,17 @@
 package com.quizapp.admin.service;
 
+import com.quizapp.admin.model.ImportResult;
+import com.quizapp.config.DatabaseConfig;
 import com.quizapp.model.Question;
 import com.quizapp.model.Answer;
 import com.quizapp.model.Category;
 import com.quizapp.dao.QuestionDAO;
 import com.quizapp.dao.AnswerDao;
 import com.quizapp.dao.CategoryDAO;
+import com.quizapp.util.TransactionManager;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -20,6 +25,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * Service class for importing and exporting questions
@@ -50,15 +56,12 @@ public class ImportExportService {
         // CSV headers
         String[] headers = {"question_id", "category_id", "category_name", "question_text", "difficulty", "correct_answer", "incorrect_answer1", "incorrect_answer2", "incorrect_answer3"};
         
-        List<Question> questions;
-        if (categoryId != null) {
-            questions = questionDAO.findByCategoryId(categoryId);
-        } else {
-            questions = questionDAO.findAll();
-        }
+        int exported = 0;
         
-        try (CSVPrinter printer = new CSVPrinter(new FileWriter(outputFile), CSVFormat.DEFAULT.withHeader(headers))) {
-            for (Question question : questions) {
+        // Stream rows from the database so large banks are never held in memory at once
+        try (Stream<Question> questions = streamQuestions(categoryId);
+             CSVPrinter printer = new CSVPrinter(new FileWriter(outputFile), CSVFormat.DEFAULT.withHeader(headers))) {
+            for (Question question : (Iterable<Question>) questions::iterator) {
                 List<Answer> answers = answerDao.findByQuestionId(question.getQuestionId());
                 Category category = categoryDAO.findById(question.getCategoryId()).orElse(null);
                 String categoryName = category != null ? category.getName() : "";
@@ -94,41 +97,42 @@ public class ImportExportService {
                 }
                 
                 printer.printRecord(record);
+                exported++;
             }
         }
         
-        return questions.size();
+        return exported;
     }
     
     /**
      * Import questions from CSV format
      * @param inputFile the input file to read from
      * @param categoryId the category ID to import questions into
-     * @return number of questions imported
+     * @return number of questions imported and the rows that were not
      * @throws IOException if an I/O error occurs
      */
-    public int importQuestionsFromCSV(File inputFile, int categoryId) throws IOException {
-        int imported = 0;
+    public ImportResult importQuestionsFromCSV(File inputFile, int categoryId) throws IOException {
+        ImportBatch batch = new ImportBatch();
         
         try (CSVParser parser = CSVParser.parse(inputFile, StandardCharsets.UTF_8, CSVFormat.DEFAULT.withFirstRecordAsHeader())) {
+            int row = 0;
             for (CSVRecord record : parser) {
+                row++;
                 try {
                     Question question = new Question();
                     question.setCategoryId(categoryId);
                     question.setQuestionText(record.get("question_text"));
                     question.setDifficulty(Integer.parseInt(record.get("difficulty")));
                     
-                    // Create the question
-                    Question createdQuestion = questionDAO.create(question);
+                    List<Answer> answers = new ArrayList<>();
                     
                     // Add correct answer
                     String correctAnswerText = record.get("correct_answer");
                     if (!correctAnswerText.isEmpty()) {
                         Answer correctAnswer = new Answer();
-                        correctAnswer.setQuestionId(createdQuestion.getQuestionId());
                         correctAnswer.setAnswerText(correctAnswerText);
                         correctAnswer.setCorrect(true);
-                        answerDao.create(correctAnswer);
+                        answers.add(correctAnswer);
                     }
                     
                     // Add incorrect answers
@@ -136,21 +140,22 @@ public class ImportExportService {
                         String incorrectAnswerText = record.get("incorrect_answer" + i);
                         if (incorrectAnswerText != null && !incorrectAnswerText.isEmpty()) {
                             Answer incorrectAnswer = new Answer();
-                            incorrectAnswer.setQuestionId(createdQuestion.getQuestionId());
                             incorrectAnswer.setAnswerText(incorrectAnswerText);
                             incorrectAnswer.setCorrect(false);
-                            answerDao.create(incorrectAnswer);
+                            answers.add(incorrectAnswer);
                         }
                     }
                     
-                    imported++;
+                    batch.add(row, question, answers);
                 } catch (Exception e) {
                     LOGGER.log(Level.WARNING, "Error importing question from CSV: " + e.getMessage(), e);
+                    batch.reject(row, e);
                 }
             }
         }
         
-        return imported;
+        batch.flush();
+        return batch.getResult();
     }
     
     /**
@@ -161,55 +166,61 @@ public class ImportExportService {
      * @throws IOException if an I/O error occurs
      */
     public int exportQuestionsToJSON(Integer categoryId, File outputFile) throws IOException {
-        List<Question> questions;
-        if (categoryId != null) {
-            questions = questionDAO.findByCategoryId(categoryId);
-        } else {
-            questions = questionDAO.findAll();
-        }
-        
-        ArrayNode questionsArray = objectMapper.createArrayNode();
+        int exported = 0;
         
-        for (Question question : questions) {
-            ObjectNode questionNode = objectMapper.createObjectNode();
-            questionNode.put("question_id", question.getQuestionId());
-            questionNode.put("category_id", question.getCategoryId());
-            
-            // Get category name
-            Category category = categoryDAO.findById(question.getCategoryId()).orElse(null);
-            questionNode.put("category_name", category != null ? category.getName() : "");
-            
-            questionNode.put("question_text", question.getQuestionText());
-            questionNode.put("difficulty", question.getDifficulty());
-            
-            // Get answers
-            List<Answer> answers = answerDao.findByQuestionId(question.getQuestionId());
-            ArrayNode answersArray = objectMapper.createArrayNode();
+        // Write each question as it is read so neither the rows nor the JSON tree pile up in memory
+        try (Stream<Question> questions = streamQuestions(categoryId);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputFile, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartArray();
             
-            for (Answer answer : answers) {
-                ObjectNode answerNode = objectMapper.createObjectNode();
-                answerNode.put("answer_text", answer.getAnswerText());
-                answerNode.put("is_correct", answer.isCorrect());
-                answersArray.add(answerNode);
+            for (Question question : (Iterable<Question>) questions::iterator) {
+                ObjectNode questionNode = objectMapper.createObjectNode();
+                questionNode.put("question_id", question.getQuestionId());
+                questionNode.put("category_id", question.getCategoryId());
+                
+                // Get category name
+                Category category = categoryDAO.findById(question.getCategoryId()).orElse(null);
+                questionNode.put("category_name", category != null ? category.getName() : "");
+                
+                questionNode.put("question_text", question.getQuestionText());
+                questionNode.put("difficulty", question.getDifficulty());
+                
+                // Get answers
+                List<Answer> answers = answerDao.findByQuestionId(question.getQuestionId());
+                ArrayNode answersArray = objectMapper.createArrayNode();
+                
+                for (Answer answer : answers) {
+                    ObjectNode answerNode = objectMapper.createObjectNode();
+                    answerNode.put("answer_text", answer.getAnswerText());
+                    answerNode.put("is_correct", answer.isCorrect());
+                    answersArray.add(answerNode);
+                }
+                
+                questionNode.set("answers", answersArray);
+                objectMapper.writeTree(generator, questionNode);
+                exported++;
             }
             
-            questionNode.set("answers", answersArray);
-            questionsArray.add(questionNode);
+            generator.writeEndArray();
         }
         
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(outputFile, questionsArray);
-        return questions.size();
+        return exported;
+    }
+    
+    private Stream<Question> streamQuestions(Integer categoryId) {
+        return categoryId != null ? questionDAO.streamByCategoryId(categoryId) : questionDAO.streamAll();
     }
     
     /**
      * Import questions from JSON format
      * @param inputFile the input file to read from
      * @param categoryId the category ID to import questions into
-     * @return number of questions imported
+     * @return number of questions imported and the rows that were not
      * @throws IOException if an I/O error occurs
      */
-    public int importQuestionsFromJSON(File inputFile, int categoryId) throws IOException {
-        int imported = 0;
+    public ImportResult importQuestionsFromJSON(File inputFile, int categoryId) throws IOException {
+        ImportBatch batch = new ImportBatch();
         
         ArrayNode questionsArray = (ArrayNode) objectMapper.readTree(inputFile);
         
@@ -222,31 +233,29 @@ public class ImportExportService {
                 question.setQuestionText(questionNode.get("question_text").asText());
                 question.setDifficulty(questionNode.get("difficulty").asInt());
                 
-                // Create the question
-                Question createdQuestion = questionDAO.create(question);
-                
                 // Add answers
+                List<Answer> answers = new ArrayList<>();
                 ArrayNode answersArray = (ArrayNode) questionNode.get("answers");
                 if (answersArray != null) {
                     for (int j = 0; j < answersArray.size(); j++) {
                         ObjectNode answerNode = (ObjectNode) answersArray.get(j);
                         
                         Answer answer = new Answer();
-                        answer.setQuestionId(createdQuestion.getQuestionId());
                         answer.setAnswerText(answerNode.get("answer_text").asText());
                         answer.setCorrect(answerNode.get("is_correct").asBoolean());
-                        
-                        answerDao.create(answer);
+                        answers.add(answer);
                     }
                 }
                 
-                imported++;
+                batch.add(i + 1, question, answers);
             } catch (Exception e) {
                 LOGGER.log(Level.WARNING, "Error importing question from JSON: " + e.getMessage(), e);
+                batch.reject(i + 1, e);
             }
         }
         
-        return imported;
+        batch.flush();
+        return batch.getResult();
     }
     
     /**
@@ -266,4 +275,84 @@ public class ImportExportService {
     public boolean isJSONFile(File file) {
         return file.getName().toLowerCase().endsWith(".json");
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Accumulates parsed questions and writes them with the batch insert APIs once
+     * {@link DatabaseConfig#getBatchSize()} questions are pending, so an import costs a few
+     * round trips per batch instead of one per row. Each chunk is one transaction; if a chunk fails
+     * it is written again one question per transaction, so only the questions that still fail are
+     * rejected.
+     */
+    private class ImportBatch {
+        private final int batchSize = DatabaseConfig.getBatchSize();
+        private final List<Integer> rows = new ArrayList<>();
+        private final List<Question> questions = new ArrayList<>();
+        private final List<List<Answer>> answersByQuestion = new ArrayList<>();
+        private final List<ImportResult.RejectedRow> rejected = new ArrayList<>();
+        private int imported;
+        
+        void add(int row, Question question, List<Answer> answers) {
+            rows.add(row);
+            questions.add(question);
+            answersByQuestion.add(answers);
+            if (questions.size() >= batchSize) {
+                flush();
+            }
+        }
+        
+        void reject(int row, Exception e) {
+            rejected.add(new ImportResult.RejectedRow(row, e.getMessage()));
+        }
+        
+        void flush() {
+            if (questions.isEmpty()) {
+                return;
+            }
+            try {
+                store(questions, answersByQuestion);
+                imported += questions.size();
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Error importing batch of " + questions.size()
+                    + " questions, retrying one at a time: " + e.getMessage(), e);
+                for (int i = 0; i < questions.size(); i++) {
+                    try {
+                        store(List.of(questions.get(i)), List.of(answersByQuestion.get(i)));
+                        imported++;
+                    } catch (Exception rowError) {
+                        LOGGER.log(Level.WARNING, "Error importing question at row " + rows.get(i) + ": "
+                            + rowError.getMessage(), rowError);
+                        reject(rows.get(i), rowError);
+                    }
+                }
+            } finally {
+                rows.clear();
+                questions.clear();
+                answersByQuestion.clear();
+            }
+        }
+        
+        /**
+         * Writes the questions and their answers in one transaction, so a failure leaves no orphans
+         */
+        private void store(List<Question> chunk, List<List<Answer>> answersOfChunk) {
+            TransactionManager.inTransaction(() -> {
+                questionDAO.createAll(chunk);
+                
+                List<Answer> answers = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    int questionId = chunk.get(i).getQuestionId();
+                    for (Answer answer : answersOfChunk.get(i)) {
+                        answer.setQuestionId(questionId);
+                        answers.add(answer);
+                    }
+                }
+                answerDao.createAll(answers);
+            });
+        }
+        
+        ImportResult getResult() {
+            rejected.sort(Comparator.comparingInt(ImportResult.RejectedRow::getRow));
+            return new ImportResult(imported, new ArrayList<>(rejected));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.quizapp.admin.service;
 
 import com.quizapp.model.User;
+import com.quizapp.dao.Page;
+import com.quizapp.dao.PageCursor;
 import com.quizapp.dao.UserDAO;
 import com.quizapp.util.EmailUtil;
 
@@ -34,6 +36,16 @@ public class UserManagementService {
         return userDAO.findAllUsers();
     }
     
+    /**
+     * Get one page of users ordered by ID
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of users in the page
+     * @return the page of users
+     */
+    public Page<User> getUsersPage(PageCursor after, int pageSize) {
+        return userDAO.findUsersPage(after, pageSize);
+    }
+    
     /**
      * Get user by ID
      * @param userId the user ID
@@ -34,4 +34,124 @@ public class DatabaseConfig {
     public static String getDbDriver() {
         return properties.getProperty("db.driver");
     }
-} 
\ No newline at end of file
+
+    // Connection pool settings
+
+    public static String getPoolName() {
+        return properties.getProperty("db.pool.name", "QuizAppPool");
+    }
+
+    public static int getPoolMaximumSize() {
+        return getInt("db.pool.maximumPoolSize", 10);
+    }
+
+    public static int getPoolMinimumIdle() {
+        return getInt("db.pool.minimumIdle", 2);
+    }
+
+    public static long getPoolConnectionTimeoutMs() {
+        return getLong("db.pool.connectionTimeoutMs", 10000L);
+    }
+
+    public static long getPoolIdleTimeoutMs() {
+        return getLong("db.pool.idleTimeoutMs", 300000L);
+    }
+
+    public static long getPoolMaxLifetimeMs() {
+        return getLong("db.pool.maxLifetimeMs", 1800000L);
+    }
+
+    /**
+     * Time a connection may be held before Hikari logs a possible leak; 0 disables detection
+     */
+    public static long getPoolLeakDetectionThresholdMs() {
+        return getLong("db.pool.leakDetectionThresholdMs", 0L);
+    }
+
+    // MySQL Connector/J driver properties applied to every pooled connection
+
+    public static boolean isCachePrepStmts() {
+        return Boolean.parseBoolean(properties.getProperty("db.cachePrepStmts", "true"));
+    }
+
+    public static int getPrepStmtCacheSize() {
+        return getInt("db.prepStmtCacheSize", 250);
+    }
+
+    public static int getPrepStmtCacheSqlLimit() {
+        return getInt("db.prepStmtCacheSqlLimit", 2048);
+    }
+
+    public static boolean isUseServerPrepStmts() {
+        return Boolean.parseBoolean(properties.getProperty("db.useServerPrepStmts", "true"));
+    }
+
+    public static boolean isRewriteBatchedStatements() {
+        return Boolean.parseBoolean(properties.getProperty("db.rewriteBatchedStatements", "true"));
+    }
+
+    /**
+     * Number of rows sent per executeBatch() call by the bulk insert APIs
+     */
+    public static int getBatchSize() {
+        return Math.max(1, getInt("db.batchSize", 500));
+    }
+
+    /**
+     * Number of categories whose question banks are kept in memory at once
+     */
+    public static int getQuestionCacheMaxCategories() {
+        return Math.max(1, getInt("cache.questionBank.maxCategories", 32));
+    }
+
+    /**
+     * Local append-only journal holding quiz results until they are written to the database
+     */
+    public static String getResultJournalPath() {
+        String path = properties.getProperty("results.journalFile");
+        if (path == null || path.trim().isEmpty()) {
+            return System.getProperty("user.home") + "/.quizapp/quiz-results.journal";
+        }
+        return path.trim();
+    }
+
+    /**
+     * How often the result writer flushes journaled results to the database
+     */
+    public static long getResultFlushIntervalMs() {
+        return Math.max(100L, getLong("results.flushIntervalMs", 2000L));
+    }
+
+    /**
+     * Upper bound for the exponential retry delay after failed result flushes
+     */
+    public static long getResultMaxRetryDelayMs() {
+        return Math.max(1000L, getLong("results.maxRetryDelayMs", 60000L));
+    }
+
+    private static int getInt(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static long getLong(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+}
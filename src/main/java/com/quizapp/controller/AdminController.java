@@ -1,5 +1,6 @@
 package com.quizapp.controller;
 
+import com.quizapp.admin.model.ImportResult;
 import com.quizapp.model.Answer;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
@@ -77,10 +78,10 @@ public class AdminController {
      * Import questions from CSV format
      * @param inputFile the input file to read from
      * @param categoryId the category ID to import questions into
-     * @return number of questions imported
+     * @return number of questions imported and the rows that were not
      * @throws IOException if an I/O error occurs
      */
-    public int importQuestionsFromCSV(File inputFile, int categoryId) throws IOException {
+    public ImportResult importQuestionsFromCSV(File inputFile, int categoryId) throws IOException {
         return dashboardController.importQuestionsFromCSV(inputFile, categoryId);
     }
     
@@ -88,10 +89,10 @@ public class AdminController {
      * Import questions from JSON format
      * @param inputFile the input file to read from
      * @param categoryId the category ID to import questions into
-     * @return number of questions imported
+     * @return number of questions imported and the rows that were not
      * @throws IOException if an I/O error occurs
      */
-    public int importQuestionsFromJSON(File inputFile, int categoryId) throws IOException {
+    public ImportResult importQuestionsFromJSON(File inputFile, int categoryId) throws IOException {
         return dashboardController.importQuestionsFromJSON(inputFile, categoryId);
     }
 } 
\ No newline at end of file
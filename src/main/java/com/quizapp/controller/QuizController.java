@@ -1,16 +1,14 @@
 package com.quizapp.controller;
 
-import com.quizapp.model.Answer;
+import com.quizapp.admin.model.QuestionResponse;
+import com.quizapp.admin.model.QuizAttempt;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
 import com.quizapp.service.QuizService;
-import com.quizapp.dao.QuizResultDAO;
+import com.quizapp.service.QuizSession;
 import com.quizapp.model.QuizResult;
 
-import javax.swing.*;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Controller for quiz-related operations
@@ -18,98 +16,28 @@ import java.util.TimerTask;
 public class QuizController {
     private final QuizService quizService;
     private final int userId;
-    private List<Question> questions;
-    private List<Answer> currentAnswers;
-    private int currentQuestionIndex;
-    private int score;
-    private Category category;
-    private int quizTimeSeconds;
-    private Timer timer;
-    private int timeLeft;
-    private Runnable onQuizEnd;
-    private QuizResultDAO quizResultDAO;
+    private volatile QuizSession session;
 
     public QuizController(int userId) {
         this.quizService = new QuizService();
         this.userId = userId;
-        this.quizResultDAO = new QuizResultDAO();
     }
 
-    public void startQuiz(Category category, int questionCount, int quizTimeSeconds, Runnable onQuizEnd) {
-        this.category = category;
-        this.questions = quizService.getQuestionsForQuiz(category.getCategoryId(), questionCount);
-        this.currentQuestionIndex = 0;
-        this.score = 0;
-        this.quizTimeSeconds = quizTimeSeconds;
-        this.onQuizEnd = onQuizEnd;
-        startTimer();
-    }
-
-    public Question getCurrentQuestion() {
-        if (questions == null || questions.isEmpty()) return null;
-        return questions.get(currentQuestionIndex);
-    }
-
-    public List<Answer> loadCurrentAnswers() {
-        if (questions == null || questions.isEmpty()) return List.of();
-        currentAnswers = quizService.getAnswersForQuestion(getCurrentQuestion().getQuestionId());
-        return currentAnswers;
-    }
-
-    public void submitAnswer(int selectedIndex) {
-        if (currentAnswers != null && quizService.isCorrectAnswer(currentAnswers, selectedIndex)) {
-            score++;
-        }
-        currentQuestionIndex++;
-    }
-
-    public boolean hasNextQuestion() {
-        return questions != null && currentQuestionIndex < questions.size();
-    }
-
-    public int getScore() {
-        return score;
-    }
-
-    public int getTotalQuestions() {
-        return questions != null ? questions.size() : 0;
-    }
-
-    public int getCurrentQuestionIndex() {
-        return currentQuestionIndex;
-    }
-
-    public int getTimeLeft() {
-        return timeLeft;
-    }
-
-    private void startTimer() {
-        if (timer != null) timer.cancel();
-        timeLeft = quizTimeSeconds;
-        timer = new Timer();
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                timeLeft--;
-                if (timeLeft <= 0) {
-                    timer.cancel();
-                    SwingUtilities.invokeLater(() -> onQuizEnd.run());
-                }
-            }
-        }, 1000, 1000);
-    }
-
-    public void stopTimer() {
-        if (timer != null) timer.cancel();
+    /**
+     * Starts a new attempt over already selected questions. The caller drives the attempt through
+     * the returned session and is responsible for calling {@link QuizSession#expireIfDue()}.
+     */
+    public QuizSession startSession(List<Question> questions, int quizTimeSeconds) {
+        session = new QuizSession(questions, quizTimeSeconds);
+        return session;
     }
 
-    public void saveQuizResult() {
-        QuizResult result = new QuizResult();
-        result.setUserId(userId);
-        result.setCategoryId(category.getCategoryId());
-        result.setScore(score);
-        result.setTotalQuestions(getTotalQuestions());
-        quizResultDAO.create(result);
+    /**
+     * Snapshot of the current attempt, or null before the first quiz is started
+     */
+    public QuizSession.State getSessionState() {
+        QuizSession current = session;
+        return current != null ? current.getState() : null;
     }
 
     /**
@@ -140,6 +68,13 @@ public class QuizController {
         return quizService.getQuestionsForQuiz(categoryId, count);
     }
 
+    /**
+     * Get a reproducible selection of questions for a given category
+     */
+    public List<Question> getQuestionsForQuiz(int categoryId, int count, long seed) {
+        return quizService.getQuestionsForQuiz(categoryId, count, seed);
+    }
+
     /**
      * Get questions for a given category with specified difficulty level
      */
@@ -148,10 +83,18 @@ public class QuizController {
     }
 
     /**
-     * Save quiz result
+     * Save quiz result. Returns immediately; the result is journaled locally and written
+     * to the database in the background, so its result ID is not populated.
      */
     public QuizResult saveQuizResult(QuizResult result) {
-        return quizService.saveQuizResult(result);
+        return quizService.submitQuizResult(result);
+    }
+
+    /**
+     * Queue the per-question responses of a finished attempt for analytics
+     */
+    public void recordResponses(QuizAttempt attempt, List<QuestionResponse> responses) {
+        quizService.recordResponses(attempt, responses);
     }
 
     /**
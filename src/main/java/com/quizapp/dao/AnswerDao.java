@@ -1,14 +1,21 @@
 package com.quizapp.dao;
 
+import com.quizapp.config.DatabaseConfig;
 import com.quizapp.model.Answer;
 import com.quizapp.util.DatabaseUtil;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 public class AnswerDao {
-    private static final String SELECT_BY_QUESTION_ID = "SELECT answer_id, question_id, answer_text, is_correct, created_at FROM answers WHERE question_id = ?";
+    private static final String SELECT_BY_QUESTION_ID = "SELECT answer_id, question_id, answer_text, is_correct FROM answers WHERE question_id = ?";
+    private static final String SELECT_BY_QUESTION_IDS_PREFIX =
+        "SELECT answer_id, question_id, answer_text, is_correct FROM answers WHERE question_id IN (";
     private static final String INSERT_ANSWER = "INSERT INTO answers (question_id, answer_text, is_correct) VALUES (?, ?, ?)";
 
     public List<Answer> findByQuestionId(int questionId) {
@@ -18,13 +25,7 @@ public class AnswerDao {
             stmt.setInt(1, questionId);
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
-                Answer answer = new Answer();
-                answer.setAnswerId(rs.getInt("answer_id"));
-                answer.setQuestionId(rs.getInt("question_id"));
-                answer.setAnswerText(rs.getString("answer_text"));
-                answer.setCorrect(rs.getBoolean("is_correct"));
-                answer.setCreatedAt(rs.getTimestamp("created_at"));
-                answers.add(answer);
+                answers.add(mapAnswer(rs));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Error fetching answers for question", e);
@@ -32,6 +33,55 @@ public class AnswerDao {
         return answers;
     }
 
+    /**
+     * Fetches the answers of many questions with one IN (...) query per
+     * {@link DatabaseConfig#getBatchSize()} IDs, ordered by answer ID within each question.
+     * @return answers keyed by question ID; questions without answers have no entry
+     */
+    public Map<Integer, List<Answer>> findByQuestionIds(Collection<Integer> questionIds) {
+        Map<Integer, List<Answer>> answersByQuestion = new HashMap<>();
+        if (questionIds.isEmpty()) {
+            return answersByQuestion;
+        }
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(questionIds));
+        int chunkSize = DatabaseConfig.getBatchSize();
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            for (int start = 0; start < ids.size(); start += chunkSize) {
+                List<Integer> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+                StringBuilder sql = new StringBuilder(SELECT_BY_QUESTION_IDS_PREFIX);
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                sql.append(") ORDER BY question_id, answer_id");
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            Answer answer = mapAnswer(rs);
+                            answersByQuestion.computeIfAbsent(answer.getQuestionId(), id -> new ArrayList<>()).add(answer);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error fetching answers for questions", e);
+        }
+        return answersByQuestion;
+    }
+
+    private Answer mapAnswer(ResultSet rs) throws SQLException {
+        Answer answer = new Answer();
+        answer.setAnswerId(rs.getInt("answer_id"));
+        answer.setQuestionId(rs.getInt("question_id"));
+        answer.setAnswerText(rs.getString("answer_text"));
+        answer.setCorrect(rs.getBoolean("is_correct"));
+        return answer;
+    }
+
     public Answer create(Answer answer) {
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_ANSWER, Statement.RETURN_GENERATED_KEYS)) {
@@ -57,4 +107,53 @@ public class AnswerDao {
             throw new RuntimeException("Error creating answer", e);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Inserts all answers in one transaction using JDBC batches of {@link DatabaseConfig#getBatchSize()}
+     * rows and assigns the generated IDs back in order. Either every answer is inserted or none is.
+     * @return the same list, with answer IDs populated
+     */
+    public List<Answer> createAll(List<Answer> answers) {
+        if (answers.isEmpty()) {
+            return answers;
+        }
+        int batchSize = DatabaseConfig.getBatchSize();
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_ANSWER, Statement.RETURN_GENERATED_KEYS)) {
+                int batchStart = 0;
+                for (int i = 0; i < answers.size(); i++) {
+                    Answer answer = answers.get(i);
+                    stmt.setInt(1, answer.getQuestionId());
+                    stmt.setString(2, answer.getAnswerText());
+                    stmt.setBoolean(3, answer.isCorrect());
+                    stmt.addBatch();
+
+                    if (i + 1 - batchStart == batchSize || i == answers.size() - 1) {
+                        stmt.executeBatch();
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            for (int j = batchStart; j <= i; j++) {
+                                if (!generatedKeys.next()) {
+                                    throw new SQLException("Creating answers failed, missing generated ID.");
+                                }
+                                answers.get(j).setAnswerId(generatedKeys.getInt(1));
+                            }
+                        }
+                        batchStart = i + 1;
+                    }
+                }
+                conn.commit();
+                return answers;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error creating answers in batch", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.quizapp.dao;
 
+import com.quizapp.dao.mapper.CategoryRowMapper;
+import com.quizapp.dao.mapper.ColumnIndex;
 import com.quizapp.model.Category;
 import com.quizapp.util.DatabaseUtil;
 
@@ -78,9 +80,10 @@ public class CategoryDAO {
              PreparedStatement stmt = conn.prepareStatement(SELECT_CATEGORIES_WITH_QUESTIONS);
              ResultSet rs = stmt.executeQuery()) {
             
+            ColumnIndex columns = ColumnIndex.of(SELECT_CATEGORIES_WITH_QUESTIONS, rs);
             while (rs.next()) {
                 try {
-                    categories.add(mapResultSetToCategory(rs));
+                    categories.add(CategoryRowMapper.INSTANCE.mapRow(rs, columns));
                 } catch (SQLException e) {
                     System.err.println("Error mapping category with questions: " + e.getMessage());
                     // Continue with next category
@@ -109,9 +112,10 @@ public class CategoryDAO {
              PreparedStatement stmt = conn.prepareStatement(SELECT_ALL_CATEGORIES);
              ResultSet rs = stmt.executeQuery()) {
             
+            ColumnIndex columns = ColumnIndex.of(SELECT_ALL_CATEGORIES, rs);
             while (rs.next()) {
                 try {
-                    categories.add(mapResultSetToCategory(rs));
+                    categories.add(CategoryRowMapper.INSTANCE.mapRow(rs, columns));
                 } catch (SQLException e) {
                     System.err.println("Error mapping category in findAll: " + e.getMessage());
                     // Continue with next category
@@ -143,9 +147,10 @@ public class CategoryDAO {
             try (PreparedStatement stmt = conn.prepareStatement(SELECT_MAIN_CATEGORIES);
                  ResultSet rs = stmt.executeQuery()) {
                 
+                ColumnIndex columns = ColumnIndex.of(SELECT_MAIN_CATEGORIES, rs);
                 while (rs.next()) {
                     try {
-                        Category category = mapResultSetToCategory(rs);
+                        Category category = CategoryRowMapper.INSTANCE.mapRow(rs, columns);
                         categoryMap.put(category.getCategoryId(), category);
                         mainCategories.add(category);
                     } catch (SQLException e) {
@@ -160,9 +165,10 @@ public class CategoryDAO {
                 try (PreparedStatement stmt = conn.prepareStatement(SELECT_SUBCATEGORIES)) {
                     stmt.setInt(1, mainCategory.getCategoryId());
                     try (ResultSet rs = stmt.executeQuery()) {
+                        ColumnIndex columns = ColumnIndex.of(SELECT_SUBCATEGORIES, rs);
                         while (rs.next()) {
                             try {
-                                Category subcategory = mapResultSetToCategory(rs);
+                                Category subcategory = CategoryRowMapper.INSTANCE.mapRow(rs, columns);
                                 mainCategory.addSubcategory(subcategory);
                             } catch (SQLException e) {
                                 System.err.println("Error mapping subcategory for category ID " + 
@@ -204,9 +210,10 @@ public class CategoryDAO {
             
             stmt.setInt(1, parentId);
             try (ResultSet rs = stmt.executeQuery()) {
+                ColumnIndex columns = ColumnIndex.of(SELECT_SUBCATEGORIES, rs);
                 while (rs.next()) {
                     try {
-                        subcategories.add(mapResultSetToCategory(rs));
+                        subcategories.add(CategoryRowMapper.INSTANCE.mapRow(rs, columns));
                     } catch (SQLException e) {
                         System.err.println("Error mapping subcategory: " + e.getMessage());
                         // Continue with next subcategory
@@ -235,9 +242,10 @@ public class CategoryDAO {
             stmt.setInt(1, categoryId);
             ResultSet rs = stmt.executeQuery();
 
+            ColumnIndex columns = ColumnIndex.of(SELECT_CATEGORY_BY_ID, rs);
             if (rs.next()) {
                 try {
-                    return Optional.of(mapResultSetToCategory(rs));
+                    return Optional.of(CategoryRowMapper.INSTANCE.mapRow(rs, columns));
                 } catch (SQLException e) {
                     System.err.println("Error mapping category by ID " + categoryId + ": " + e.getMessage());
                 }
@@ -383,92 +391,6 @@ public class CategoryDAO {
         }
     }
     
-    /**
-     * Helper method to map a ResultSet row to a Category object
-     */
-    private Category mapResultSetToCategory(ResultSet rs) throws SQLException {
-        try {
-            Category category = new Category();
-            category.setCategoryId(rs.getInt("category_id"));
-            category.setName(rs.getString("name"));
-            category.setDescription(rs.getString("description"));
-            
-            // Handle parent_id which might be NULL
-            try {
-                int parentId = rs.getInt("parent_id");
-                if (!rs.wasNull()) {
-                    category.setParentId(parentId);
-                }
-            } catch (SQLException e) {
-                // Log but don't throw - parent_id might be optional in some contexts
-                System.err.println("Error reading parent_id: " + e.getMessage());
-            }
-            
-            // Handle boolean conversion safely
-            try {
-                category.setSubcategory(rs.getBoolean("is_subcategory"));
-            } catch (SQLException e) {
-                System.err.println("Error reading is_subcategory: " + e.getMessage());
-                // Default to false if there's a problem
-                category.setSubcategory(false);
-            }
-            
-            // Set time-related fields with defaults if there's an issue
-            try {
-                category.setTimePerQuestion(rs.getInt("time_per_question"));
-                if (rs.wasNull()) {
-                    category.setTimePerQuestion(30); // Default value
-                }
-            } catch (SQLException e) {
-                System.err.println("Error reading time_per_question: " + e.getMessage());
-                category.setTimePerQuestion(30); // Default value
-            }
-            
-            try {
-                category.setTotalTime(rs.getInt("total_time"));
-                if (rs.wasNull()) {
-                    category.setTotalTime(600); // Default value
-                }
-            } catch (SQLException e) {
-                System.err.println("Error reading total_time: " + e.getMessage());
-                category.setTotalTime(600); // Default value
-            }
-            
-            try {
-                category.setIconPath(rs.getString("icon_path"));
-            } catch (SQLException e) {
-                System.err.println("Error reading icon_path: " + e.getMessage());
-            }
-            
-            try {
-                category.setDisplayOrder(rs.getInt("display_order"));
-                if (rs.wasNull()) {
-                    category.setDisplayOrder(0); // Default value
-                }
-            } catch (SQLException e) {
-                System.err.println("Error reading display_order: " + e.getMessage());
-                category.setDisplayOrder(0); // Default value
-            }
-            
-            try {
-                category.setCreatedAt(rs.getTimestamp("created_at"));
-            } catch (SQLException e) {
-                System.err.println("Error reading created_at: " + e.getMessage());
-            }
-            
-            try {
-                category.setUpdatedAt(rs.getTimestamp("updated_at"));
-            } catch (SQLException e) {
-                System.err.println("Error reading updated_at: " + e.getMessage());
-            }
-            
-            return category;
-        } catch (SQLException e) {
-            System.err.println("Error mapping ResultSet to Category: " + e.getMessage());
-            throw e;
-        }
-    }
-
     /**
      * Returns all main categories (not subcategories)
      */
@@ -478,9 +400,10 @@ public class CategoryDAO {
              PreparedStatement stmt = conn.prepareStatement(SELECT_MAIN_CATEGORIES);
              ResultSet rs = stmt.executeQuery()) {
             
+            ColumnIndex columns = ColumnIndex.of(SELECT_MAIN_CATEGORIES, rs);
             while (rs.next()) {
                 try {
-                    categories.add(mapResultSetToCategory(rs));
+                    categories.add(CategoryRowMapper.INSTANCE.mapRow(rs, columns));
                 } catch (SQLException e) {
                     System.err.println("Error mapping main category in findMainCategories: " + e.getMessage());
                     // Continue with next category
@@ -0,0 +1,43 @@
+package com.quizapp.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query. Pass {@link #getNextCursor()} back to the DAO to fetch
+ * the following page; it is null on the last page.
+ */
+public class Page<T> {
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Bounds a caller-supplied page size to 1..{@value #MAX_PAGE_SIZE}
+     */
+    public static int clampPageSize(int pageSize) {
+        return Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,35 @@
+package com.quizapp.dao;
+
+/**
+ * Position after the last row of a page: the value of the sort column plus the primary key
+ * used as a tie-breaker. A null cursor means "start from the beginning".
+ */
+public final class PageCursor {
+    private final Object sortKey;
+    private final int id;
+
+    public PageCursor(Object sortKey, int id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    /**
+     * Cursor for queries ordered only by primary key
+     */
+    public static PageCursor afterId(int id) {
+        return new PageCursor(null, id);
+    }
+
+    public Object getSortKey() {
+        return sortKey;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{sortKey=" + sortKey + ", id=" + id + '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.quizapp.dao;
+
+import com.quizapp.model.Question;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of one category's questions, indexed by difficulty level when it is built
+ * so that per-level lookups never scan the category. Levels are normalized to upper case;
+ * {@link #LEVELS} gives their order from easiest to hardest for neighbour lookups.
+ */
+public final class QuestionBank {
+    // Matches the levels Question.setDifficulty assigns to difficulties 1-5
+    public static final List<String> LEVELS = List.of("EASY", "MEDIUM_EASY", "MEDIUM", "MEDIUM_HARD", "HARD");
+
+    private final List<Question> questions;
+    private final Map<String, List<Question>> byLevel;
+
+    private QuestionBank(List<Question> questions, Map<String, List<Question>> byLevel) {
+        this.questions = questions;
+        this.byLevel = byLevel;
+    }
+
+    public static QuestionBank of(List<Question> questions) {
+        Map<String, List<Question>> grouped = new LinkedHashMap<>();
+        for (Question question : questions) {
+            grouped.computeIfAbsent(normalizeLevel(question.getDifficultyLevel()), level -> new ArrayList<>())
+                .add(question);
+        }
+        Map<String, List<Question>> byLevel = new LinkedHashMap<>();
+        grouped.forEach((level, list) -> byLevel.put(level, Collections.unmodifiableList(list)));
+        return new QuestionBank(Collections.unmodifiableList(new ArrayList<>(questions)),
+            Collections.unmodifiableMap(byLevel));
+    }
+
+    /**
+     * @return every question of the category, unmodifiable
+     */
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * @return the questions of one difficulty level, or an empty list
+     */
+    public List<Question> getQuestions(String level) {
+        return byLevel.getOrDefault(normalizeLevel(level), Collections.emptyList());
+    }
+
+    public int size() {
+        return questions.size();
+    }
+
+    public int size(String level) {
+        return getQuestions(level).size();
+    }
+
+    /**
+     * Levels present in this bank, ordered by distance from the given level (closest first,
+     * easier before harder on ties). The level itself is not included.
+     */
+    public List<String> neighboursOf(String level) {
+        String origin = normalizeLevel(level);
+        int originRank = rank(origin);
+        List<String> neighbours = new ArrayList<>(byLevel.keySet());
+        neighbours.remove(origin);
+        neighbours.sort(Comparator.<String>comparingInt(other -> Math.abs(rank(other) - originRank))
+            .thenComparingInt(QuestionBank::rank));
+        return neighbours;
+    }
+
+    public static String normalizeLevel(String level) {
+        return level == null || level.isEmpty() ? "MEDIUM" : level.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // Unknown levels sort after the known ones
+    private static int rank(String level) {
+        int index = LEVELS.indexOf(level);
+        return index >= 0 ? index : LEVELS.size();
+    }
+}
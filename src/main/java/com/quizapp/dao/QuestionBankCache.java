@@ -0,0 +1,127 @@
+package com.quizapp.dao;
+
+import com.quizapp.config.DatabaseConfig;
+import com.quizapp.model.Question;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * In-memory question bank per category, bounded by {@link DatabaseConfig#getQuestionCacheMaxCategories()}
+ * with least-recently-used eviction. {@link QuestionDAO} invalidates affected categories on every
+ * write, and {@code QuizService} clears the cache on {@code CATEGORY_UPDATED}, so repeated quiz
+ * starts in a popular category are served without touching the database.
+ * <p>
+ * Cached banks are immutable and shared; callers must copy their lists before shuffling or trimming.
+ */
+public final class QuestionBankCache {
+    private static final QuestionBankCache INSTANCE = new QuestionBankCache(DatabaseConfig.getQuestionCacheMaxCategories());
+
+    private final int maxCategories;
+    private final Map<Integer, QuestionBank> banks;
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private QuestionBankCache(int maxCategories) {
+        this.maxCategories = maxCategories;
+        this.banks = new LinkedHashMap<Integer, QuestionBank>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, QuestionBank> eldest) {
+                if (size() > QuestionBankCache.this.maxCategories) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static QuestionBankCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached question bank of a category, loading its questions with the given
+     * loader on a miss
+     */
+    public QuestionBank getBank(int categoryId, IntFunction<List<Question>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            QuestionBank cached = banks.get(categoryId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        // Load and index outside the lock so a slow query does not block hits on other categories
+        QuestionBank loaded = QuestionBank.of(loader.apply(categoryId));
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                banks.put(categoryId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops one category, e.g. after a question in it was created or edited
+     */
+    public synchronized void invalidate(int categoryId) {
+        generation++;
+        invalidations.incrementAndGet();
+        banks.remove(categoryId);
+    }
+
+    /**
+     * Drops every category that currently holds the given question
+     */
+    public synchronized void invalidateQuestion(int questionId) {
+        generation++;
+        invalidations.incrementAndGet();
+        banks.values().removeIf(bank -> containsQuestion(bank.getQuestions(), questionId));
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.incrementAndGet();
+        banks.clear();
+    }
+
+    /**
+     * Get cache statistics for monitoring
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        synchronized (this) {
+            stats.put("categories", (long) banks.size());
+        }
+        stats.put("maxCategories", (long) maxCategories);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private static boolean containsQuestion(List<Question> questions, int questionId) {
+        for (Question question : questions) {
+            if (question.getQuestionId() == questionId) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
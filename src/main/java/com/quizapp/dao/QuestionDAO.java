@@ -1,15 +1,23 @@
 package com.quizapp.dao;
 
+import com.quizapp.dao.mapper.ColumnIndex;
+import com.quizapp.dao.mapper.QuestionRowMapper;
+import com.quizapp.dao.mapper.ResultStreams;
+import com.quizapp.config.DatabaseConfig;
 import com.quizapp.model.Question;
 import com.quizapp.util.DatabaseUtil;
+import com.quizapp.util.TransactionManager;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class QuestionDAO {
-    private static final String SELECT_BY_CATEGORY = "SELECT * FROM questions WHERE category_id = ?";
+    private static final String SELECT_BY_CATEGORY = "SELECT * FROM questions WHERE category_id = ? ORDER BY question_id";
     private static final String SELECT_BY_ID = "SELECT * FROM questions WHERE question_id = ?";
     private static final String INSERT_QUESTION = "INSERT INTO questions (category_id, question_text, options, correct_option_index) VALUES (?, ?, ?, ?)";
     private static final String UPDATE_QUESTION = "UPDATE questions SET question_text = ?, options = ?, correct_option_index = ? WHERE question_id = ?";
@@ -31,24 +39,27 @@ public class QuestionDAO {
 
     private static final String SELECT_ALL = "SELECT * FROM questions ORDER BY category_id, question_id";
 
+    // Keyset pagination: seek past the last (sort key, id) instead of using OFFSET
+    private static final String SELECT_PAGE_FIRST =
+        "SELECT * FROM questions ORDER BY category_id, question_id LIMIT ?";
+    private static final String SELECT_PAGE_AFTER =
+        "SELECT * FROM questions " +
+        "WHERE category_id > ? OR (category_id = ? AND question_id > ?) " +
+        "ORDER BY category_id, question_id LIMIT ?";
+    private static final String SELECT_PAGE_BY_CATEGORY =
+        "SELECT * FROM questions WHERE category_id = ? AND question_id > ? ORDER BY question_id LIMIT ?";
+
     public List<Question> findByCategoryId(int categoryId) {
         List<Question> questions = new ArrayList<>();
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_CATEGORY)) {
             
             stmt.setInt(1, categoryId);
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                Question question = new Question();
-                question.setQuestionId(rs.getInt("question_id"));
-                question.setCategoryId(rs.getInt("category_id"));
-                question.setQuestionText(rs.getString("question_text"));
-                question.setOptions(List.of(rs.getString("options").split("\\|")));
-                question.setCorrectOptionIndex(rs.getInt("correct_option_index"));
-                question.setCreatedAt(rs.getTimestamp("created_at"));
-                question.setUpdatedAt(rs.getTimestamp("updated_at"));
-                questions.add(question);
+            try (ResultSet rs = stmt.executeQuery()) {
+                ColumnIndex columns = ColumnIndex.of(SELECT_BY_CATEGORY, rs);
+                while (rs.next()) {
+                    questions.add(QuestionRowMapper.INSTANCE.mapRow(rs, columns));
+                }
             }
         } catch (SQLException e) {
             throw new RuntimeException("Error finding questions by category", e);
@@ -56,23 +67,31 @@ public class QuestionDAO {
         return questions;
     }
 
+    /**
+     * Cached variant of {@link #findByCategoryId} for quiz generation, served from {@link QuestionBankCache}
+     * @return an unmodifiable list shared with other callers
+     */
+    public List<Question> findByCategoryIdCached(int categoryId) {
+        return findQuestionBank(categoryId).getQuestions();
+    }
+
+    /**
+     * Returns the cached, difficulty-indexed question bank of a category
+     */
+    public QuestionBank findQuestionBank(int categoryId) {
+        return QuestionBankCache.getInstance().getBank(categoryId, this::findByCategoryId);
+    }
+
     public Optional<Question> findById(int questionId) {
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
             
             stmt.setInt(1, questionId);
-            ResultSet rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                Question question = new Question();
-                question.setQuestionId(rs.getInt("question_id"));
-                question.setCategoryId(rs.getInt("category_id"));
-                question.setQuestionText(rs.getString("question_text"));
-                question.setOptions(List.of(rs.getString("options").split("\\|")));
-                question.setCorrectOptionIndex(rs.getInt("correct_option_index"));
-                question.setCreatedAt(rs.getTimestamp("created_at"));
-                question.setUpdatedAt(rs.getTimestamp("updated_at"));
-                return Optional.of(question);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    ColumnIndex columns = ColumnIndex.of(SELECT_BY_ID, rs);
+                    return Optional.of(QuestionRowMapper.INSTANCE.mapRow(rs, columns));
+                }
             }
             return Optional.empty();
         } catch (SQLException e) {
@@ -86,7 +105,7 @@ public class QuestionDAO {
             
             stmt.setInt(1, question.getCategoryId());
             stmt.setString(2, question.getQuestionText());
-            stmt.setString(3, String.join("|", question.getOptions()));
+            stmt.setString(3, question.getEncodedOptions());
             stmt.setInt(4, question.getCorrectOptionIndex());
 
             int affectedRows = stmt.executeUpdate();
@@ -97,6 +116,7 @@ public class QuestionDAO {
             try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                 if (generatedKeys.next()) {
                     question.setQuestionId(generatedKeys.getInt(1));
+                    invalidateCategoryAfterCommit(question.getCategoryId());
                     return question;
                 } else {
                     throw new SQLException("Creating question failed, no ID obtained.");
@@ -107,16 +127,72 @@ public class QuestionDAO {
         }
     }
 
+    /**
+     * Inserts all questions in one transaction using JDBC batches of {@link DatabaseConfig#getBatchSize()}
+     * rows, then assigns the generated IDs back onto the given objects in order.
+     * Either every question is inserted or none is.
+     * @return the same list, with question IDs populated
+     */
+    public List<Question> createAll(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return questions;
+        }
+        int batchSize = DatabaseConfig.getBatchSize();
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_QUESTION, Statement.RETURN_GENERATED_KEYS)) {
+                int batchStart = 0;
+                for (int i = 0; i < questions.size(); i++) {
+                    Question question = questions.get(i);
+                    stmt.setInt(1, question.getCategoryId());
+                    stmt.setString(2, question.getQuestionText());
+                    stmt.setString(3, question.getEncodedOptions());
+                    stmt.setInt(4, question.getCorrectOptionIndex());
+                    stmt.addBatch();
+
+                    if (i + 1 - batchStart == batchSize || i == questions.size() - 1) {
+                        stmt.executeBatch();
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            for (int j = batchStart; j <= i; j++) {
+                                if (!generatedKeys.next()) {
+                                    throw new SQLException("Creating questions failed, missing generated ID.");
+                                }
+                                questions.get(j).setQuestionId(generatedKeys.getInt(1));
+                            }
+                        }
+                        batchStart = i + 1;
+                    }
+                }
+                conn.commit();
+                questions.stream()
+                    .mapToInt(Question::getCategoryId)
+                    .distinct()
+                    .forEach(QuestionDAO::invalidateCategoryAfterCommit);
+                return questions;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error creating questions in batch", e);
+        }
+    }
+
     public void update(Question question) {
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_QUESTION)) {
             
             stmt.setString(1, question.getQuestionText());
-            stmt.setString(2, String.join("|", question.getOptions()));
+            stmt.setString(2, question.getEncodedOptions());
             stmt.setInt(3, question.getCorrectOptionIndex());
             stmt.setInt(4, question.getQuestionId());
 
             stmt.executeUpdate();
+            invalidateQuestionAfterCommit(question.getQuestionId());
         } catch (SQLException e) {
             throw new RuntimeException("Error updating question", e);
         }
@@ -128,6 +204,7 @@ public class QuestionDAO {
             
             stmt.setInt(1, questionId);
             stmt.executeUpdate();
+            invalidateQuestionAfterCommit(questionId);
         } catch (SQLException e) {
             throw new RuntimeException("Error deleting question", e);
         }
@@ -186,6 +263,7 @@ public class QuestionDAO {
             stmt.setInt(3, question.getQuestionId());
             
             stmt.executeUpdate();
+            invalidateQuestionAfterCommit(question.getQuestionId());
         } catch (SQLException e) {
             throw new RuntimeException("Error updating question flag", e);
         }
@@ -197,51 +275,113 @@ public class QuestionDAO {
              PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
              ResultSet rs = stmt.executeQuery()) {
 
+            ColumnIndex columns = ColumnIndex.of(SELECT_ALL, rs);
             while (rs.next()) {
-                Question question = new Question();
-                question.setQuestionId(rs.getInt("question_id"));
-                question.setCategoryId(rs.getInt("category_id"));
-                question.setQuestionText(rs.getString("question_text"));
-                question.setOptions(List.of(rs.getString("options").split("\\|")));
-                question.setCorrectOptionIndex(rs.getInt("correct_option_index"));
-                
-                // Try to get difficulty from result set if it exists
-                try {
-                    int difficulty = rs.getInt("difficulty");
-                    if (!rs.wasNull()) {
-                        question.setDifficulty(difficulty);
-                    } else {
-                        question.setDifficulty(3); // Default to medium difficulty
-                    }
-                } catch (SQLException e) {
-                    // If difficulty column doesn't exist, set a default
-                    question.setDifficulty(3);
-                }
-                
-                // Set flag status if fields exist
-                try {
-                    boolean isFlagged = rs.getBoolean("is_flagged");
-                    if (!rs.wasNull()) {
-                        question.setFlagged(isFlagged);
-                    }
-                } catch (SQLException e) {
-                    // If flag column doesn't exist, ignore
-                }
-                
-                try {
-                    String flagReason = rs.getString("flag_reason");
-                    question.setFlagReason(flagReason);
-                } catch (SQLException e) {
-                    // If flag_reason column doesn't exist, ignore
-                }
-                
-                question.setCreatedAt(rs.getTimestamp("created_at"));
-                question.setUpdatedAt(rs.getTimestamp("updated_at"));
-                questions.add(question);
+                questions.add(QuestionRowMapper.INSTANCE.mapRow(rs, columns));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Error finding all questions", e);
         }
         return questions;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Returns one page of all questions ordered by category and ID.
+     * @param after cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of questions to return
+     */
+    public Page<Question> findPage(PageCursor after, int pageSize) {
+        int limit = Page.clampPageSize(pageSize);
+        String sql = after == null ? SELECT_PAGE_FIRST : SELECT_PAGE_AFTER;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (after != null) {
+                int afterCategoryId = ((Number) after.getSortKey()).intValue();
+                stmt.setInt(index++, afterCategoryId);
+                stmt.setInt(index++, afterCategoryId);
+                stmt.setInt(index++, after.getId());
+            }
+            stmt.setInt(index, limit + 1);
+            return readPage(stmt, sql, limit, q -> new PageCursor(q.getCategoryId(), q.getQuestionId()));
+        } catch (SQLException e) {
+            throw new RuntimeException("Error finding page of questions", e);
+        }
+    }
+
+    /**
+     * Returns one page of questions in a category ordered by ID.
+     * @param after cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of questions to return
+     */
+    public Page<Question> findPageByCategoryId(int categoryId, PageCursor after, int pageSize) {
+        int limit = Page.clampPageSize(pageSize);
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PAGE_BY_CATEGORY)) {
+
+            stmt.setInt(1, categoryId);
+            stmt.setInt(2, after != null ? after.getId() : 0);
+            stmt.setInt(3, limit + 1);
+            return readPage(stmt, SELECT_PAGE_BY_CATEGORY, limit, q -> PageCursor.afterId(q.getQuestionId()));
+        } catch (SQLException e) {
+            throw new RuntimeException("Error finding page of questions by category", e);
+        }
+    }
+
+    /**
+     * Streams every question ordered by category and ID without buffering the table.
+     * The stream holds a database connection until closed; use try-with-resources.
+     */
+    public Stream<Question> streamAll() {
+        return ResultStreams.stream(SELECT_ALL, ResultStreams.StatementBinder.NONE, QuestionRowMapper.INSTANCE);
+    }
+
+    /**
+     * Streams the questions of one category. The stream must be closed by the caller.
+     */
+    public Stream<Question> streamByCategoryId(int categoryId) {
+        return ResultStreams.stream(SELECT_BY_CATEGORY, stmt -> stmt.setInt(1, categoryId), QuestionRowMapper.INSTANCE);
+    }
+
+    /**
+     * Visits every question in turn, releasing the connection when done
+     * @return number of questions visited
+     */
+    public int forEachQuestion(Consumer<Question> visitor) {
+        return ResultStreams.forEach(SELECT_ALL, ResultStreams.StatementBinder.NONE, QuestionRowMapper.INSTANCE, visitor);
+    }
+
+    /**
+     * Reads up to limit rows; a (limit + 1)th row only signals that another page exists
+     */
+    private Page<Question> readPage(PreparedStatement stmt, String sql, int limit,
+                                    Function<Question, PageCursor> cursorOf) throws SQLException {
+        List<Question> questions = new ArrayList<>(limit);
+        boolean hasMore = false;
+        try (ResultSet rs = stmt.executeQuery()) {
+            ColumnIndex columns = ColumnIndex.of(sql, rs);
+            while (rs.next()) {
+                if (questions.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                questions.add(QuestionRowMapper.INSTANCE.mapRow(rs, columns));
+            }
+        }
+        PageCursor next = hasMore ? cursorOf.apply(questions.get(questions.size() - 1)) : null;
+        return new Page<>(questions, next);
+    }
+
+    /**
+     * Invalidates once the change is committed; invalidating earlier would let a concurrent load
+     * cache the old rows again
+     */
+    private static void invalidateCategoryAfterCommit(int categoryId) {
+        TransactionManager.afterCommit(() -> QuestionBankCache.getInstance().invalidate(categoryId));
+    }
+
+    private static void invalidateQuestionAfterCommit(int questionId) {
+        TransactionManager.afterCommit(() -> QuestionBankCache.getInstance().invalidateQuestion(questionId));
+    }
+}
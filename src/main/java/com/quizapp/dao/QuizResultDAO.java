@@ -1,48 +1,255 @@
 package com.quizapp.dao;
 
+import com.quizapp.config.DatabaseConfig;
+import com.quizapp.dao.mapper.ColumnIndex;
+import com.quizapp.dao.mapper.ResultStreams;
+import com.quizapp.model.LeaderboardPeriod;
+import com.quizapp.model.LeaderboardStats;
 import com.quizapp.model.QuizResult;
 import com.quizapp.util.DatabaseUtil;
+import com.quizapp.util.TransactionManager;
 
 import java.sql.*;
+import java.sql.Date;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public class QuizResultDAO {
-    private static final String INSERT_RESULT = "INSERT INTO quiz_results (user_id, category_id, score, total_questions) VALUES (?, ?, ?, ?)";
+    private static final List<LeaderboardPeriod> WINDOWED_PERIODS =
+        List.of(LeaderboardPeriod.DAY, LeaderboardPeriod.WEEK, LeaderboardPeriod.MONTH);
+
+    // A repeated client_id is a retry of an already stored result: keep the row and return its ID
+    private static final String INSERT_RESULT =
+        "INSERT INTO quiz_results (user_id, category_id, score, correct_answers, total_questions, time_taken, completed_at, client_id) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE result_id = LAST_INSERT_ID(result_id)";
+    private static final String UPSERT_BEST_PREFIX =
+        "INSERT INTO leaderboard_best (user_id, category_id, result_id, score, correct_answers, total_questions, " +
+        "time_taken, completed_at) " +
+        "SELECT r.user_id, r.category_id, r.result_id, r.score, r.correct_answers, r.total_questions, r.time_taken, " +
+        "r.completed_at " +
+        "FROM quiz_results r WHERE ";
+    private static final String UPSERT_BEST_BY_RESULT_ID =
+        UPSERT_BEST_PREFIX + "r.result_id = ?" + keepBetterResult("leaderboard_best");
+    private static final String UPSERT_BEST_BY_CLIENT_ID =
+        UPSERT_BEST_PREFIX + "r.client_id = ?" + keepBetterResult("leaderboard_best");
+    // Same rule per day, week and month; the period start is bound by the caller
+    private static final String UPSERT_PERIOD_BEST_PREFIX =
+        "INSERT INTO leaderboard_period_best (period_type, period_start, user_id, category_id, result_id, score, " +
+        "correct_answers, total_questions, time_taken, completed_at) " +
+        "SELECT ?, ?, r.user_id, r.category_id, r.result_id, r.score, r.correct_answers, r.total_questions, " +
+        "r.time_taken, r.completed_at " +
+        "FROM quiz_results r WHERE ";
+    private static final String UPSERT_PERIOD_BEST_BY_RESULT_ID =
+        UPSERT_PERIOD_BEST_PREFIX + "r.result_id = ?" + keepBetterResult("leaderboard_period_best");
+    private static final String UPSERT_PERIOD_BEST_BY_CLIENT_ID =
+        UPSERT_PERIOD_BEST_PREFIX + "r.client_id = ?" + keepBetterResult("leaderboard_period_best");
+    // Range delete on the leading (period_type, period_start) key columns
+    private static final String DELETE_EXPIRED_PERIODS =
+        "DELETE FROM leaderboard_period_best WHERE period_type = ? AND period_start < ?";
     private static final String SELECT_BY_USER = "SELECT r.*, c.name as category_name FROM quiz_results r JOIN categories c ON r.category_id = c.category_id WHERE r.user_id = ? ORDER BY r.completed_at DESC";
-    private static final String SELECT_LEADERBOARD = "SELECT r.*, u.username, c.name as category_name FROM quiz_results r JOIN users u ON r.user_id = u.user_id JOIN categories c ON r.category_id = c.category_id WHERE r.category_id = ? ORDER BY r.score DESC, r.completed_at ASC LIMIT 10";
+    // Leaderboards read the materialized best results; the ORDER BY matches the leaderboard_best rank indexes
+    private static final String SELECT_LEADERBOARD =
+        "SELECT b.*, u.username, c.name as category_name " +
+        "FROM leaderboard_best b " +
+        "JOIN users u ON b.user_id = u.user_id " +
+        "JOIN categories c ON b.category_id = c.category_id " +
+        "WHERE b.category_id = ? " +
+        "ORDER BY b.score DESC, b.completed_at ASC LIMIT 10";
     private static final String SELECT_GLOBAL_LEADERBOARD = 
+        "SELECT b.*, u.username, c.name as category_name " +
+        "FROM leaderboard_best b " +
+        "JOIN users u ON b.user_id = u.user_id " +
+        "JOIN categories c ON b.category_id = c.category_id " +
+        "ORDER BY b.score DESC, b.completed_at ASC LIMIT 20";
+    private static final String SELECT_ALL_LEADERBOARD_BEST =
+        "SELECT b.*, u.username, c.name as category_name " +
+        "FROM leaderboard_best b " +
+        "JOIN users u ON b.user_id = u.user_id " +
+        "JOIN categories c ON b.category_id = c.category_id " +
+        "ORDER BY b.score DESC, b.completed_at ASC";
+    // Windowed boards read one period; the ORDER BY matches the leaderboard_period_best rank indexes
+    private static final String SELECT_ALL_LEADERBOARD_PERIOD_BEST =
+        "SELECT b.*, u.username, c.name as category_name " +
+        "FROM leaderboard_period_best b " +
+        "JOIN users u ON b.user_id = u.user_id " +
+        "JOIN categories c ON b.category_id = c.category_id " +
+        "WHERE b.period_type = ? AND b.period_start = ? " +
+        "ORDER BY b.score DESC, b.completed_at ASC";
+    // One aggregate pass per board: per category, each whole-percent bucket with its count and sums.
+    // Percentages are of questions answered correctly; score is a sum of points and says nothing about it
+    private static final String AGGREGATE_BUCKET_COLUMNS =
+        "SELECT b.category_id, FLOOR(b.correct_answers * 100 / b.total_questions) AS bucket, COUNT(*) AS participants, " +
+        "SUM(b.correct_answers * 100 / b.total_questions) AS percentage_sum, " +
+        "MAX(b.correct_answers * 100 / b.total_questions) AS best_percentage, " +
+        "SUM(b.correct_answers) AS total_correct, " +
+        "SUM(b.total_questions) AS total_questions ";
+    private static final String AGGREGATE_GROUP_BY = " GROUP BY b.category_id, bucket";
+    private static final String AGGREGATE_LEADERBOARD_BEST =
+        AGGREGATE_BUCKET_COLUMNS + "FROM leaderboard_best b WHERE b.total_questions > 0";
+    private static final String AGGREGATE_LEADERBOARD_PERIOD_BEST =
+        AGGREGATE_BUCKET_COLUMNS + "FROM leaderboard_period_best b " +
+        "WHERE b.period_type = ? AND b.period_start = ? AND b.total_questions > 0";
+    private static final String SELECT_ALL_RESULTS =
+        "SELECT r.*, u.username, c.name as category_name " +
+        "FROM quiz_results r " +
+        "JOIN users u ON r.user_id = u.user_id " +
+        "JOIN categories c ON r.category_id = c.category_id " +
+        "ORDER BY r.result_id";
+    private static final String SELECT_RESULTS_BY_CATEGORY =
         "SELECT r.*, u.username, c.name as category_name " +
         "FROM quiz_results r " +
         "JOIN users u ON r.user_id = u.user_id " +
         "JOIN categories c ON r.category_id = c.category_id " +
-        "ORDER BY r.score DESC, r.completed_at ASC LIMIT 20";
+        "WHERE r.category_id = ? " +
+        "ORDER BY r.result_id";
 
+    /**
+     * Inserts a result and folds it into the leaderboard in the same transaction
+     */
     public QuizResult create(QuizResult result) {
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(INSERT_RESULT, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setInt(1, result.getUserId());
-            stmt.setInt(2, result.getCategoryId());
-            stmt.setInt(3, result.getScore());
-            stmt.setInt(4, result.getTotalQuestions());
-
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) {
-                throw new SQLException("Creating quiz result failed, no rows affected.");
+        return TransactionManager.inTransaction(() -> {
+            try (Connection conn = DatabaseUtil.getConnection()) {
+                try (PreparedStatement stmt = conn.prepareStatement(INSERT_RESULT, Statement.RETURN_GENERATED_KEYS)) {
+                    bindInsert(stmt, result);
+
+                    int affectedRows = stmt.executeUpdate();
+                    if (affectedRows == 0) {
+                        throw new SQLException("Creating quiz result failed, no rows affected.");
+                    }
+
+                    try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            result.setResultId(generatedKeys.getInt(1));
+                        } else {
+                            throw new SQLException("Creating quiz result failed, no ID obtained.");
+                        }
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(UPSERT_BEST_BY_RESULT_ID)) {
+                    stmt.setInt(1, result.getResultId());
+                    stmt.executeUpdate();
+                }
+                try (PreparedStatement stmt = conn.prepareStatement(UPSERT_PERIOD_BEST_BY_RESULT_ID)) {
+                    for (LeaderboardPeriod period : WINDOWED_PERIODS) {
+                        bindPeriod(stmt, period, result);
+                        stmt.setInt(3, result.getResultId());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+                return result;
+            } catch (SQLException e) {
+                throw new RuntimeException("Error creating quiz result", e);
+            }
+        });
+    }
+
+    /**
+     * Inserts results in one transaction using JDBC batches of {@link DatabaseConfig#getBatchSize()} rows,
+     * then folds them into the leaderboard in the same transaction.
+     * Results whose client ID is already stored are skipped, so a batch can be retried safely.
+     * Results without a client ID are given one. Generated IDs are not read back.
+     */
+    public void createAll(List<QuizResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        int batchSize = DatabaseConfig.getBatchSize();
+        // The leaderboard rows are found again by client ID
+        for (QuizResult result : results) {
+            if (result.getClientId() == null) {
+                result.setClientId(UUID.randomUUID().toString());
             }
+        }
 
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    result.setResultId(generatedKeys.getInt(1));
-                    return result;
-                } else {
-                    throw new SQLException("Creating quiz result failed, no ID obtained.");
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_RESULT);
+                 PreparedStatement bestStmt = conn.prepareStatement(UPSERT_BEST_BY_CLIENT_ID);
+                 PreparedStatement periodStmt = conn.prepareStatement(UPSERT_PERIOD_BEST_BY_CLIENT_ID)) {
+                for (int i = 0; i < results.size(); i++) {
+                    bindInsert(stmt, results.get(i));
+                    stmt.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == results.size() - 1) {
+                        stmt.executeBatch();
+                    }
+                }
+                for (int i = 0; i < results.size(); i++) {
+                    bestStmt.setString(1, results.get(i).getClientId());
+                    bestStmt.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == results.size() - 1) {
+                        bestStmt.executeBatch();
+                    }
                 }
+                int pending = 0;
+                for (QuizResult result : results) {
+                    for (LeaderboardPeriod period : WINDOWED_PERIODS) {
+                        bindPeriod(periodStmt, period, result);
+                        periodStmt.setString(3, result.getClientId());
+                        periodStmt.addBatch();
+                        if (++pending % batchSize == 0) {
+                            periodStmt.executeBatch();
+                        }
+                    }
+                }
+                if (pending % batchSize != 0) {
+                    periodStmt.executeBatch();
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
             }
         } catch (SQLException e) {
-            throw new RuntimeException("Error creating quiz result", e);
+            throw new RuntimeException("Error creating quiz results in batch", e);
+        }
+    }
+
+    private static void bindInsert(PreparedStatement stmt, QuizResult result) throws SQLException {
+        // Kept on the result so its leaderboard periods match the stored row
+        if (result.getCompletedAt() == null) {
+            result.setCompletedAt(new Timestamp(System.currentTimeMillis()));
         }
+        stmt.setInt(1, result.getUserId());
+        stmt.setInt(2, result.getCategoryId());
+        stmt.setInt(3, result.getScore());
+        stmt.setInt(4, result.getCorrectAnswers());
+        stmt.setInt(5, result.getTotalQuestions());
+        stmt.setInt(6, result.getTimeTaken());
+        stmt.setTimestamp(7, result.getCompletedAt());
+        stmt.setString(8, result.getClientId());
+    }
+
+    private static void bindPeriod(PreparedStatement stmt, LeaderboardPeriod period, QuizResult result) throws SQLException {
+        LocalDate completedOn = result.getCompletedAt().toLocalDateTime().toLocalDate();
+        stmt.setString(1, period.name());
+        stmt.setDate(2, Date.valueOf(period.startOf(completedOn)));
+    }
+
+    /**
+     * ON DUPLICATE KEY clause keeping a leaderboard row at the user's best result: a higher score wins,
+     * a tie goes to the earlier result. completed_at and score are assigned last because the other
+     * assignments compare them.
+     */
+    private static String keepBetterResult(String table) {
+        String better = "(VALUES(score) > " + table + ".score OR (VALUES(score) = " + table + ".score " +
+            "AND VALUES(completed_at) < " + table + ".completed_at))";
+        return " ON DUPLICATE KEY UPDATE " +
+            "result_id = IF(" + better + ", VALUES(result_id), " + table + ".result_id), " +
+            "correct_answers = IF(" + better + ", VALUES(correct_answers), " + table + ".correct_answers), " +
+            "total_questions = IF(" + better + ", VALUES(total_questions), " + table + ".total_questions), " +
+            "time_taken = IF(" + better + ", VALUES(time_taken), " + table + ".time_taken), " +
+            "completed_at = IF(" + better + ", VALUES(completed_at), " + table + ".completed_at), " +
+            "score = IF(VALUES(score) > " + table + ".score, VALUES(score), " + table + ".score)";
     }
 
     public List<QuizResult> findByUserId(int userId) {
@@ -59,6 +266,7 @@ public class QuizResultDAO {
                 result.setUserId(rs.getInt("user_id"));
                 result.setCategoryId(rs.getInt("category_id"));
                 result.setScore(rs.getInt("score"));
+                result.setCorrectAnswers(rs.getInt("correct_answers"));
                 result.setTotalQuestions(rs.getInt("total_questions"));
                 result.setCompletedAt(rs.getTimestamp("completed_at"));
                 result.setCategoryName(rs.getString("category_name"));
@@ -84,6 +292,7 @@ public class QuizResultDAO {
                 result.setUserId(rs.getInt("user_id"));
                 result.setCategoryId(rs.getInt("category_id"));
                 result.setScore(rs.getInt("score"));
+                result.setCorrectAnswers(rs.getInt("correct_answers"));
                 result.setTotalQuestions(rs.getInt("total_questions"));
                 result.setCompletedAt(rs.getTimestamp("completed_at"));
                 result.setUsername(rs.getString("username"));
@@ -114,6 +323,7 @@ public class QuizResultDAO {
                 result.setUserId(rs.getInt("user_id"));
                 result.setCategoryId(rs.getInt("category_id"));
                 result.setScore(rs.getInt("score"));
+                result.setCorrectAnswers(rs.getInt("correct_answers"));
                 result.setTotalQuestions(rs.getInt("total_questions"));
                 result.setCompletedAt(rs.getTimestamp("completed_at"));
                 result.setUsername(rs.getString("username"));
@@ -125,4 +335,116 @@ public class QuizResultDAO {
         }
         return leaderboard;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Streams every quiz result in insertion order without buffering the table.
+     * The stream holds a database connection until closed; use try-with-resources.
+     */
+    public Stream<QuizResult> streamAll() {
+        return ResultStreams.stream(SELECT_ALL_RESULTS, ResultStreams.StatementBinder.NONE, QuizResultDAO::mapRow);
+    }
+
+    /**
+     * Streams every user's best result per category, best first. The stream must be closed by the caller.
+     */
+    public Stream<QuizResult> streamLeaderboardBest() {
+        return ResultStreams.stream(SELECT_ALL_LEADERBOARD_BEST, ResultStreams.StatementBinder.NONE, QuizResultDAO::mapRow);
+    }
+
+    /**
+     * Streams every user's best result per category within one period, best first.
+     * The stream must be closed by the caller.
+     * @param periodStart first day of the period, as given by {@link LeaderboardPeriod#startOf}
+     */
+    public Stream<QuizResult> streamLeaderboardPeriodBest(LeaderboardPeriod period, LocalDate periodStart) {
+        return ResultStreams.stream(SELECT_ALL_LEADERBOARD_PERIOD_BEST, stmt -> {
+            stmt.setString(1, period.name());
+            stmt.setDate(2, Date.valueOf(periodStart));
+        }, QuizResultDAO::mapRow);
+    }
+
+    /**
+     * Deletes the windowed leaderboard rows of every period that ended before the one containing the date
+     * @return number of rows deleted
+     */
+    public int deleteExpiredPeriods(LocalDate today) {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(DELETE_EXPIRED_PERIODS)) {
+            int deleted = 0;
+            for (LeaderboardPeriod period : WINDOWED_PERIODS) {
+                stmt.setString(1, period.name());
+                stmt.setDate(2, Date.valueOf(period.startOf(today)));
+                deleted += stmt.executeUpdate();
+            }
+            return deleted;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error deleting expired leaderboard periods", e);
+        }
+    }
+
+    /**
+     * Summarizes a leaderboard per category in one aggregate pass over its best results
+     * @param periodStart first day of the period; ignored for {@link LeaderboardPeriod#ALL_TIME}
+     * @param categoryId category to summarize, or 0 for every category
+     * @return summaries by category ID; categories without results are absent
+     */
+    public Map<Integer, LeaderboardStats> aggregateLeaderboardStats(LeaderboardPeriod period, LocalDate periodStart,
+                                                                    int categoryId) {
+        String sql = (period.isWindowed() ? AGGREGATE_LEADERBOARD_PERIOD_BEST : AGGREGATE_LEADERBOARD_BEST)
+            + (categoryId != 0 ? " AND b.category_id = ?" : "") + AGGREGATE_GROUP_BY;
+        Map<Integer, List<LeaderboardStats>> buckets = new HashMap<>();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (period.isWindowed()) {
+                stmt.setString(index++, period.name());
+                stmt.setDate(index++, Date.valueOf(periodStart));
+            }
+            if (categoryId != 0) {
+                stmt.setInt(index, categoryId);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    buckets.computeIfAbsent(rs.getInt("category_id"), id -> new ArrayList<>())
+                        .add(LeaderboardStats.ofBucket(
+                            rs.getInt("bucket"),
+                            rs.getLong("participants"),
+                            rs.getDouble("percentage_sum"),
+                            rs.getDouble("best_percentage"),
+                            rs.getLong("total_correct"),
+                            rs.getLong("total_questions")));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error aggregating leaderboard statistics", e);
+        }
+
+        Map<Integer, LeaderboardStats> stats = new HashMap<>();
+        buckets.forEach((id, parts) -> stats.put(id, LeaderboardStats.merge(parts)));
+        return stats;
+    }
+
+    /**
+     * Streams the results of one category. The stream must be closed by the caller.
+     */
+    public Stream<QuizResult> streamByCategoryId(int categoryId) {
+        return ResultStreams.stream(SELECT_RESULTS_BY_CATEGORY, stmt -> stmt.setInt(1, categoryId), QuizResultDAO::mapRow);
+    }
+
+    private static QuizResult mapRow(ResultSet rs, ColumnIndex columns) throws SQLException {
+        QuizResult result = new QuizResult();
+        result.setResultId(rs.getInt(columns.of("result_id")));
+        result.setUserId(rs.getInt(columns.of("user_id")));
+        result.setCategoryId(rs.getInt(columns.of("category_id")));
+        result.setScore(rs.getInt(columns.of("score")));
+        result.setCorrectAnswers(rs.getInt(columns.of("correct_answers")));
+        result.setTotalQuestions(rs.getInt(columns.of("total_questions")));
+        result.setCompletedAt(columns.getTimestamp(rs, "completed_at"));
+        Integer timeTaken = columns.getInteger(rs, "time_taken");
+        result.setTimeTaken(timeTaken != null ? timeTaken : 0);
+        result.setClientId(columns.getString(rs, "client_id"));
+        result.setUsername(columns.getString(rs, "username"));
+        result.setCategoryName(columns.getString(rs, "category_name"));
+        return result;
+    }
+}
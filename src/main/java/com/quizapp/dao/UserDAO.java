@@ -14,6 +14,7 @@ public class UserDAO {
     private static final String SELECT_BY_ID = "SELECT * FROM users WHERE user_id = ?";
     private static final String SELECT_BY_EMAIL = "SELECT * FROM users WHERE email = ?";
     private static final String SELECT_ALL_USERS = "SELECT * FROM users ORDER BY user_id";
+    private static final String SELECT_USERS_PAGE = "SELECT * FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?";
     private static final String INSERT_USER = "INSERT INTO users (username, password, email, is_admin, full_name) VALUES (?, ?, ?, ?, ?)";
     private static final String UPDATE_LAST_LOGIN = "UPDATE users SET last_login = ? WHERE user_id = ?";
     private static final String UPDATE_USER = "UPDATE users SET username = ?, email = ?, full_name = ? WHERE user_id = ?";
@@ -179,16 +180,7 @@ public class UserDAO {
              ResultSet rs = stmt.executeQuery(SELECT_ALL_USERS)) {
             
             while (rs.next()) {
-                User user = new User();
-                user.setUserId(rs.getInt("user_id"));
-                user.setUsername(rs.getString("username"));
-                user.setEmail(rs.getString("email"));
-                user.setAdmin(rs.getBoolean("is_admin"));
-                user.setFullName(rs.getString("full_name"));
-                user.setActive(rs.getBoolean("is_active"));
-                user.setCreatedAt(rs.getTimestamp("created_at"));
-                user.setLastLogin(rs.getTimestamp("last_login"));
-                users.add(user);
+                users.add(mapUserSummary(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error fetching all users: " + e.getMessage());
@@ -196,6 +188,53 @@ public class UserDAO {
         }
         return users;
     }
+
+    /**
+     * Returns one page of users ordered by ID, seeking past the cursor rather than using OFFSET
+     * @param after cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of users to return
+     */
+    public Page<User> findUsersPage(PageCursor after, int pageSize) {
+        int limit = Page.clampPageSize(pageSize);
+        List<User> users = new ArrayList<>(limit);
+        boolean hasMore = false;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_USERS_PAGE)) {
+
+            stmt.setInt(1, after != null ? after.getId() : 0);
+            stmt.setInt(2, limit + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (users.size() == limit) {
+                        hasMore = true;
+                        break;
+                    }
+                    users.add(mapUserSummary(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error fetching page of users: " + e.getMessage());
+            throw new RuntimeException("Error fetching page of users", e);
+        }
+        PageCursor next = hasMore ? PageCursor.afterId(users.get(users.size() - 1).getUserId()) : null;
+        return new Page<>(users, next);
+    }
+
+    /**
+     * Maps the user columns shown in listings; the password hash is deliberately left out
+     */
+    private User mapUserSummary(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setUserId(rs.getInt("user_id"));
+        user.setUsername(rs.getString("username"));
+        user.setEmail(rs.getString("email"));
+        user.setAdmin(rs.getBoolean("is_admin"));
+        user.setFullName(rs.getString("full_name"));
+        user.setActive(rs.getBoolean("is_active"));
+        user.setCreatedAt(rs.getTimestamp("created_at"));
+        user.setLastLogin(rs.getTimestamp("last_login"));
+        return user;
+    }
     
     public void updateUserStatus(int userId, boolean isActive) {
         try (Connection conn = DatabaseUtil.getConnection();
@@ -0,0 +1,44 @@
+package com.quizapp.dao.mapper;
+
+import com.quizapp.model.Category;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows of the categories table, applying the table defaults for NULL or missing columns
+ */
+public class CategoryRowMapper implements RowMapper<Category> {
+    public static final CategoryRowMapper INSTANCE = new CategoryRowMapper();
+
+    @Override
+    public Category mapRow(ResultSet rs, ColumnIndex columns) throws SQLException {
+        Category category = new Category();
+        category.setCategoryId(rs.getInt(columns.of("category_id")));
+        category.setName(rs.getString(columns.of("name")));
+        category.setDescription(columns.getString(rs, "description"));
+
+        Integer parentId = columns.getInteger(rs, "parent_id");
+        if (parentId != null) {
+            category.setParentId(parentId);
+        }
+
+        Boolean subcategory = columns.getBoolean(rs, "is_subcategory");
+        category.setSubcategory(subcategory != null && subcategory);
+
+        Integer timePerQuestion = columns.getInteger(rs, "time_per_question");
+        category.setTimePerQuestion(timePerQuestion != null ? timePerQuestion : 30);
+
+        Integer totalTime = columns.getInteger(rs, "total_time");
+        category.setTotalTime(totalTime != null ? totalTime : 600);
+
+        category.setIconPath(columns.getString(rs, "icon_path"));
+
+        Integer displayOrder = columns.getInteger(rs, "display_order");
+        category.setDisplayOrder(displayOrder != null ? displayOrder : 0);
+
+        category.setCreatedAt(columns.getTimestamp(rs, "created_at"));
+        category.setUpdatedAt(columns.getTimestamp(rs, "updated_at"));
+        return category;
+    }
+}
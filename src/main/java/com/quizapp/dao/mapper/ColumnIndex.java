@@ -0,0 +1,95 @@
+package com.quizapp.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Column label to ordinal lookup built from ResultSetMetaData. Instances are cached per SQL
+ * string so the metadata is only walked the first time a query runs, and mappers can test for
+ * optional columns without catching exceptions on every row.
+ */
+public final class ColumnIndex {
+    private static final Map<String, ColumnIndex> CACHE = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> ordinals;
+    private final int columnCount;
+
+    private ColumnIndex(ResultSetMetaData metaData) throws SQLException {
+        this.columnCount = metaData.getColumnCount();
+        this.ordinals = new HashMap<>(columnCount * 2);
+        for (int i = 1; i <= columnCount; i++) {
+            // First occurrence wins, matching ResultSet.findColumn for duplicate labels
+            ordinals.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+    }
+
+    /**
+     * Returns the cached index for the given query, building it from the result set on first use
+     * or when the column count no longer matches (e.g. a SELECT * after a schema change).
+     */
+    public static ColumnIndex of(String sql, ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        ColumnIndex index = CACHE.get(sql);
+        if (index == null || index.columnCount != metaData.getColumnCount()) {
+            index = new ColumnIndex(metaData);
+            CACHE.put(sql, index);
+        }
+        return index;
+    }
+
+    /**
+     * Builds an uncached index, for dynamically generated SQL
+     */
+    public static ColumnIndex uncached(ResultSet rs) throws SQLException {
+        return new ColumnIndex(rs.getMetaData());
+    }
+
+    /**
+     * @param label lower-case column label
+     * @return the 1-based ordinal, or 0 when the column is not in the result set
+     */
+    public int of(String label) {
+        Integer ordinal = ordinals.get(label);
+        return ordinal != null ? ordinal : 0;
+    }
+
+    public boolean has(String label) {
+        return ordinals.containsKey(label);
+    }
+
+    // Null-aware readers for optional columns
+
+    public Integer getInteger(ResultSet rs, String label) throws SQLException {
+        int ordinal = of(label);
+        if (ordinal == 0) {
+            return null;
+        }
+        int value = rs.getInt(ordinal);
+        return rs.wasNull() ? null : value;
+    }
+
+    public Boolean getBoolean(ResultSet rs, String label) throws SQLException {
+        int ordinal = of(label);
+        if (ordinal == 0) {
+            return null;
+        }
+        boolean value = rs.getBoolean(ordinal);
+        return rs.wasNull() ? null : value;
+    }
+
+    public String getString(ResultSet rs, String label) throws SQLException {
+        int ordinal = of(label);
+        return ordinal == 0 ? null : rs.getString(ordinal);
+    }
+
+    public Timestamp getTimestamp(ResultSet rs, String label) throws SQLException {
+        int ordinal = of(label);
+        return ordinal == 0 ? null : rs.getTimestamp(ordinal);
+    }
+}
@@ -0,0 +1,44 @@
+package com.quizapp.dao.mapper;
+
+import com.quizapp.model.Question;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows of the questions table. Optional columns (difficulty, flags) are only read when the
+ * query selected them.
+ */
+public class QuestionRowMapper implements RowMapper<Question> {
+    public static final QuestionRowMapper INSTANCE = new QuestionRowMapper();
+
+    private static final int DEFAULT_DIFFICULTY = 3; // Medium
+
+    @Override
+    public Question mapRow(ResultSet rs, ColumnIndex columns) throws SQLException {
+        Question question = new Question();
+        question.setQuestionId(rs.getInt(columns.of("question_id")));
+        question.setCategoryId(rs.getInt(columns.of("category_id")));
+        question.setQuestionText(rs.getString(columns.of("question_text")));
+        String options = rs.getString(columns.of("options"));
+        question.setEncodedOptions(options != null ? options : "");
+        question.setCorrectOptionIndex(rs.getInt(columns.of("correct_option_index")));
+
+        Integer difficulty = columns.getInteger(rs, "difficulty");
+        question.setDifficulty(difficulty != null ? difficulty : DEFAULT_DIFFICULTY);
+        String difficultyLevel = columns.getString(rs, "difficulty_level");
+        if (difficultyLevel != null && !difficultyLevel.isEmpty()) {
+            question.setDifficultyLevel(difficultyLevel);
+        }
+
+        Boolean flagged = columns.getBoolean(rs, "is_flagged");
+        if (flagged != null) {
+            question.setFlagged(flagged);
+        }
+        question.setFlagReason(columns.getString(rs, "flag_reason"));
+
+        question.setCreatedAt(columns.getTimestamp(rs, "created_at"));
+        question.setUpdatedAt(columns.getTimestamp(rs, "updated_at"));
+        return question;
+    }
+}
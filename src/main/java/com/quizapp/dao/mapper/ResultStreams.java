@@ -0,0 +1,114 @@
+package com.quizapp.dao.mapper;
+
+import com.quizapp.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily mapped query results backed by a forward-only, read-only cursor. With Connector/J a
+ * fetch size of {@link Integer#MIN_VALUE} makes the server stream rows one at a time, so memory
+ * stays flat regardless of table size.
+ * <p>
+ * The returned stream owns a pooled connection until it is closed; always consume it inside
+ * try-with-resources. The connection cannot run other statements while the stream is open, so
+ * streams always take their own connection from the pool, even inside a transaction.
+ */
+public final class ResultStreams {
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * Sets the parameters of the prepared statement before it is executed
+     */
+    @FunctionalInterface
+    public interface StatementBinder {
+        StatementBinder NONE = stmt -> { };
+
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    private ResultStreams() {
+    }
+
+    public static <T> Stream<T> stream(String sql, StatementBinder binder, RowMapper<T> mapper) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            conn = DatabaseUtil.getDataSource().getConnection();
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            binder.bind(stmt);
+            rs = stmt.executeQuery();
+
+            ColumnIndex columns = ColumnIndex.of(sql, rs);
+            Cursor<T> cursor = new Cursor<>(rs, columns, mapper);
+            AutoCloseable[] resources = {rs, stmt, conn};
+            return StreamSupport.stream(cursor, false).onClose(() -> closeAll(resources));
+        } catch (SQLException | RuntimeException e) {
+            closeAll(new AutoCloseable[] {rs, stmt, conn});
+            throw new RuntimeException("Error opening streaming query", e);
+        }
+    }
+
+    /**
+     * Visits every row with the callback and releases the connection afterwards
+     * @return the number of rows visited
+     */
+    public static <T> int forEach(String sql, StatementBinder binder, RowMapper<T> mapper, Consumer<? super T> visitor) {
+        int[] count = {0};
+        try (Stream<T> rows = stream(sql, binder, mapper)) {
+            rows.forEach(row -> {
+                visitor.accept(row);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    private static void closeAll(AutoCloseable[] resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                System.err.println("Error closing streaming query resource: " + e.getMessage());
+            }
+        }
+    }
+
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final ResultSet rs;
+        private final ColumnIndex columns;
+        private final RowMapper<T> mapper;
+
+        Cursor(ResultSet rs, ColumnIndex columns, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rs = rs;
+            this.columns = columns;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (!rs.next()) {
+                    return false;
+                }
+                action.accept(mapper.mapRow(rs, columns));
+                return true;
+            } catch (SQLException e) {
+                throw new RuntimeException("Error reading streamed row", e);
+            }
+        }
+    }
+}
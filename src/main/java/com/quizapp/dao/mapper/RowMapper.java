@@ -0,0 +1,12 @@
+package com.quizapp.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a ResultSet to an object using ordinals resolved once per query
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    T mapRow(ResultSet rs, ColumnIndex columns) throws SQLException;
+}
@@ -0,0 +1,59 @@
+package com.quizapp.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Time window a leaderboard covers. Windowed boards rank results completed since the start of the
+ * current calendar day, week (starting Monday) or month.
+ */
+public enum LeaderboardPeriod {
+    ALL_TIME("All Time"),
+    MONTH("This Month"),
+    WEEK("This Week"),
+    DAY("Today");
+
+    private final String label;
+
+    LeaderboardPeriod(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isWindowed() {
+        return this != ALL_TIME;
+    }
+
+    /**
+     * First day of the period containing the date. {@link #ALL_TIME} has a single period starting at
+     * {@link LocalDate#MIN}.
+     */
+    public LocalDate startOf(LocalDate date) {
+        switch (this) {
+            case DAY:
+                return date;
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return LocalDate.MIN;
+        }
+    }
+
+    /**
+     * @return the period with the given label, or {@link #ALL_TIME} if none matches
+     */
+    public static LeaderboardPeriod fromLabel(String label) {
+        for (LeaderboardPeriod period : values()) {
+            if (period.label.equals(label)) {
+                return period;
+            }
+        }
+        return ALL_TIME;
+    }
+}
@@ -0,0 +1,139 @@
+package com.quizapp.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Summary of every ranked result on a leaderboard (each user's best per category), not just the top N
+ * shown. Percentages are correct answers / total questions * 100. Median and other percentiles come from a
+ * histogram of whole-percent buckets, so they are exact to the whole percent.
+ * <p>
+ * Immutable; summaries of disjoint sets of results combine with {@link #merge}.
+ */
+public final class LeaderboardStats {
+    public static final LeaderboardStats EMPTY = new LeaderboardStats(0, 0, 0, 0, 0, new TreeMap<>());
+
+    private final long participants;
+    private final double percentageSum;
+    private final double bestPercentage;
+    private final long totalCorrect;
+    private final long totalQuestions;
+    // Whole-percent bucket -> number of results in it
+    private final NavigableMap<Integer, Long> histogram;
+
+    private LeaderboardStats(long participants, double percentageSum, double bestPercentage,
+                             long totalCorrect, long totalQuestions, NavigableMap<Integer, Long> histogram) {
+        this.participants = participants;
+        this.percentageSum = percentageSum;
+        this.bestPercentage = bestPercentage;
+        this.totalCorrect = totalCorrect;
+        this.totalQuestions = totalQuestions;
+        this.histogram = Collections.unmodifiableNavigableMap(histogram);
+    }
+
+    /**
+     * Summary of the results falling in one whole-percent bucket
+     */
+    public static LeaderboardStats ofBucket(int bucket, long participants, double percentageSum,
+                                            double bestPercentage, long totalCorrect, long totalQuestions) {
+        NavigableMap<Integer, Long> histogram = new TreeMap<>();
+        if (participants > 0) {
+            histogram.put(bucket, participants);
+        }
+        return new LeaderboardStats(participants, percentageSum, bestPercentage, totalCorrect, totalQuestions, histogram);
+    }
+
+    /**
+     * Combines summaries of disjoint sets of results
+     */
+    public static LeaderboardStats merge(Collection<LeaderboardStats> parts) {
+        long participants = 0;
+        double percentageSum = 0;
+        double bestPercentage = 0;
+        long totalCorrect = 0;
+        long totalQuestions = 0;
+        NavigableMap<Integer, Long> histogram = new TreeMap<>();
+        for (LeaderboardStats part : parts) {
+            participants += part.participants;
+            percentageSum += part.percentageSum;
+            bestPercentage = Math.max(bestPercentage, part.bestPercentage);
+            totalCorrect += part.totalCorrect;
+            totalQuestions += part.totalQuestions;
+            part.histogram.forEach((bucket, count) -> histogram.merge(bucket, count, Long::sum));
+        }
+        return new LeaderboardStats(participants, percentageSum, bestPercentage, totalCorrect, totalQuestions, histogram);
+    }
+
+    public long getParticipants() {
+        return participants;
+    }
+
+    public boolean isEmpty() {
+        return participants == 0;
+    }
+
+    public double getBestPercentage() {
+        return bestPercentage;
+    }
+
+    /**
+     * Mean percentage across participants
+     */
+    public double getAveragePercentage() {
+        return participants > 0 ? percentageSum / participants : 0;
+    }
+
+    public int getMedianPercentage() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Whole-percent score that the given share of participants scored at or below, e.g. 90 for the
+     * score needed to be in the top 10%
+     * @param percentile 0-100
+     */
+    public int getPercentile(double percentile) {
+        if (participants == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * participants));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : histogram.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= target) {
+                return entry.getKey();
+            }
+        }
+        return histogram.lastKey();
+    }
+
+    public long getTotalCorrect() {
+        return totalCorrect;
+    }
+
+    public long getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LeaderboardStats)) return false;
+        LeaderboardStats other = (LeaderboardStats) o;
+        return participants == other.participants
+            && Double.compare(percentageSum, other.percentageSum) == 0
+            && Double.compare(bestPercentage, other.bestPercentage) == 0
+            && totalCorrect == other.totalCorrect
+            && totalQuestions == other.totalQuestions
+            && histogram.equals(other.histogram);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(participants, percentageSum, bestPercentage, totalCorrect, totalQuestions, histogram);
+    }
+}
@@ -1,5 +1,7 @@
 package com.quizapp.model;
 
+import com.quizapp.util.OptionCodec;
+
 import java.sql.Timestamp;
 import java.util.List;
 
@@ -11,7 +13,9 @@ public class Question {
     private int questionId;
     private int categoryId; // Foreign key reference
     private String questionText;
-    private List<String> options;
+    // Decoded lazily from encodedOptions; volatile because cached questions are shared across threads
+    private volatile List<String> options;
+    private String encodedOptions;    // Raw questions.options column value
     private int correctOptionIndex;
     private int difficulty;  // Numeric difficulty (1-5)
     private String difficultyLevel;  // String difficulty level
@@ -63,11 +67,36 @@ public class Question {
     }
 
     public List<String> getOptions() {
-        return options;
+        List<String> decoded = options;
+        if (decoded == null && encodedOptions != null) {
+            // Racing threads may both decode; either result is equal
+            decoded = OptionCodec.decode(encodedOptions);
+            options = decoded;
+        }
+        return decoded;
     }
 
     public void setOptions(List<String> options) {
         this.options = options;
+        this.encodedOptions = null;
+    }
+
+    /**
+     * Returns the options in their stored column form without decoding them
+     */
+    public String getEncodedOptions() {
+        if (encodedOptions != null) {
+            return encodedOptions;
+        }
+        return OptionCodec.encode(options);
+    }
+
+    /**
+     * Sets the raw column value; options are decoded on first call to {@link #getOptions()}
+     */
+    public void setEncodedOptions(String encodedOptions) {
+        this.encodedOptions = encodedOptions;
+        this.options = null;
     }
 
     public int getCorrectOptionIndex() {
@@ -6,12 +6,14 @@ public class QuizResult {
     private int resultId;
     private int userId;
     private int categoryId;
-    private int score;
+    private int score;           // Sum of the points of the questions answered correctly
+    private int correctAnswers;
     private int totalQuestions;
     private int timeTaken;
     private Timestamp completedAt;
     private String username;
     private String categoryName;
+    private String clientId;  // Client-generated UUID, deduplicates write-behind retries
 
     // Getters and Setters
     public int getResultId() {
@@ -46,6 +48,14 @@ public class QuizResult {
         this.score = score;
     }
 
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public void setCorrectAnswers(int correctAnswers) {
+        this.correctAnswers = correctAnswers;
+    }
+
     public int getTotalQuestions() {
         return totalQuestions;
     }
@@ -85,4 +95,12 @@ public class QuizResult {
     public void setCategoryName(String categoryName) {
         this.categoryName = categoryName;
     }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
 } 
\ No newline at end of file
@@ -2,14 +2,19 @@ package com.quizapp.service;
 
 import com.quizapp.dao.AnswerDao;
 import com.quizapp.dao.CategoryDAO;
+import com.quizapp.dao.Page;
+import com.quizapp.dao.PageCursor;
+import com.quizapp.dao.QuestionBankCache;
 import com.quizapp.dao.QuestionDAO;
 import com.quizapp.dao.UserDAO;
 import com.quizapp.model.Answer;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
 import com.quizapp.model.User;
+import com.quizapp.util.TransactionManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class AdminService {
@@ -38,22 +43,35 @@ public class AdminService {
         return categoryDAO.create(c); 
     }
     public void updateCategory(Category c) { categoryDAO.update(c); }
-    public void deleteCategory(int id) { categoryDAO.delete(id); }
-    public int cleanupDuplicateCategories() { return categoryDAO.cleanupDuplicateCategories(); }
+    public void deleteCategory(int id) {
+        categoryDAO.delete(id);
+        TransactionManager.afterCommit(QuestionBankCache.getInstance()::invalidateAll);
+    }
+    public int cleanupDuplicateCategories() {
+        int removed = categoryDAO.cleanupDuplicateCategories();
+        TransactionManager.afterCommit(QuestionBankCache.getInstance()::invalidateAll);
+        return removed;
+    }
 
     // Question CRUD
     public List<Question> getQuestionsByCategory(int categoryId) { return questionDAO.findByCategoryId(categoryId); }
+    public Page<Question> getQuestionsPage(PageCursor after, int pageSize) { return questionDAO.findPage(after, pageSize); }
+    public Page<Question> getQuestionsPageByCategory(int categoryId, PageCursor after, int pageSize) {
+        return questionDAO.findPageByCategoryId(categoryId, after, pageSize);
+    }
     public Optional<Question> getQuestionById(int id) { return questionDAO.findById(id); }
     public Question createQuestion(Question q) { return questionDAO.create(q); }
     public void updateQuestion(Question q) { questionDAO.update(q); }
     public void deleteQuestion(int id) { questionDAO.delete(id); }
     public int cleanupDuplicateQuestions() { return questionDAO.cleanupDuplicateQuestions(); }
+    public Map<String, Long> getQuestionCacheStats() { return QuestionBankCache.getInstance().getStats(); }
 
     // Answers for a question
     public List<Answer> getAnswersForQuestion(int questionId) { return answerDao.findByQuestionId(questionId); }
     
     // User management
     public List<User> getAllUsers() { return userDAO.findAllUsers(); }
+    public Page<User> getUsersPage(PageCursor after, int pageSize) { return userDAO.findUsersPage(after, pageSize); }
     public Optional<User> getUserById(int userId) { return userDAO.findById(userId); }
     public void deleteUser(int userId) { userDAO.deleteUser(userId); }
     public void updateUserStatus(int userId, boolean isActive) { userDAO.updateUserStatus(userId, isActive); }
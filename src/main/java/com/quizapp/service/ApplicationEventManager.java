@@ -1,9 +1,9 @@
 package com.quizapp.service;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Event manager to handle application-wide events and notifications
@@ -31,9 +31,10 @@ public class ApplicationEventManager {
     
     // Private constructor for singleton pattern
     private ApplicationEventManager() {
-        // Initialize listener lists for each event type
+        // Initialize listener lists for each event type; copy-on-write because services
+        // register from their own threads while events are being fired
         for (EventType type : EventType.values()) {
-            listeners.put(type, new ArrayList<>());
+            listeners.put(type, new CopyOnWriteArrayList<>());
         }
     }
     
@@ -0,0 +1,90 @@
+package com.quizapp.service;
+
+import com.quizapp.dao.QuestionBank;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Requested share of questions per difficulty level, e.g. 40% EASY, 40% MEDIUM, 20% HARD.
+ * Weights are relative and need not add up to 100.
+ */
+public final class DifficultyMix {
+    private final Map<String, Integer> weights;
+
+    private DifficultyMix(Map<String, Integer> weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * @param weights relative weight per level, in the order quotas should be filled
+     */
+    public static DifficultyMix of(Map<String, Integer> weights) {
+        Map<String, Integer> normalized = new LinkedHashMap<>();
+        weights.forEach((level, weight) -> {
+            if (weight != null && weight > 0) {
+                normalized.merge(QuestionBank.normalizeLevel(level), weight, Integer::sum);
+            }
+        });
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Difficulty mix needs at least one positive weight");
+        }
+        return new DifficultyMix(Collections.unmodifiableMap(normalized));
+    }
+
+    /**
+     * All questions from one level, topped up from neighbouring levels when it runs short
+     */
+    public static DifficultyMix only(String level) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put(level, 1);
+        return of(weights);
+    }
+
+    public static DifficultyMix of(int easy, int medium, int hard) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("EASY", easy);
+        weights.put("MEDIUM", medium);
+        weights.put("HARD", hard);
+        return of(weights);
+    }
+
+    public Map<String, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * Splits a question count across the levels by largest remainder, so the quotas always sum to count
+     */
+    public Map<String, Integer> quotas(int count) {
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        Map<String, Integer> quotas = new LinkedHashMap<>();
+        Map<String, Long> remainders = new LinkedHashMap<>();
+        int assigned = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            long scaled = (long) count * entry.getValue();
+            int quota = (int) (scaled / totalWeight);
+            quotas.put(entry.getKey(), quota);
+            remainders.put(entry.getKey(), scaled % totalWeight);
+            assigned += quota;
+        }
+        while (assigned < count) {
+            String next = null;
+            for (Map.Entry<String, Long> entry : remainders.entrySet()) {
+                if (next == null || entry.getValue() > remainders.get(next)) {
+                    next = entry.getKey();
+                }
+            }
+            quotas.merge(next, 1, Integer::sum);
+            remainders.put(next, -1L);
+            assigned++;
+        }
+        return quotas;
+    }
+
+    @Override
+    public String toString() {
+        return "DifficultyMix" + weights;
+    }
+}
@@ -0,0 +1,273 @@
+package com.quizapp.service;
+
+import com.quizapp.dao.QuizResultDAO;
+import com.quizapp.model.LeaderboardPeriod;
+import com.quizapp.model.QuizResult;
+import com.quizapp.service.ApplicationEventManager.EventType;
+import com.quizapp.util.AppScheduler;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory leaderboards: a bounded top-K of best results per category plus a global one, with the
+ * same semantics as the {@code leaderboard_best} table (one entry per user and category, higher score
+ * first, earlier completion breaks ties). Alongside the all-time boards there is one set of boards per
+ * {@link LeaderboardPeriod} window, covering only the current day, week or month.
+ * <p>
+ * Each set of boards is warmed from the database on first read and then kept current from
+ * {@link EventType#QUIZ_COMPLETED} events, which are applied in order on a background thread so the
+ * thread firing them (usually the EDT) never waits for a load in progress. When a window rolls over, its boards are dropped and the
+ * new period is read from {@code leaderboard_period_best}, so a windowed board never rescans history.
+ * Results are stored write-behind, so a load also folds in whatever {@link QuizResultWriter} has not
+ * stored yet.
+ * Updates are serialized; each board publishes an immutable snapshot after every change, so reads
+ * take no lock and never touch the database.
+ */
+public final class LeaderboardEngine {
+    public static final int CATEGORY_LIMIT = 10;
+    public static final int GLOBAL_LIMIT = 20;
+
+    private static final long EXPIRY_INTERVAL_MS = TimeUnit.HOURS.toMillis(1);
+
+    private static final LeaderboardEngine INSTANCE = new LeaderboardEngine();
+
+    private final QuizResultDAO quizResultDAO;
+    private final LeaderboardEntries entries;
+    private final Map<LeaderboardPeriod, Boards> boardsByPeriod = new ConcurrentHashMap<>();
+    private final ExecutorService updates;
+
+    private final AtomicLong warmups = new AtomicLong();
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong boardChanges = new AtomicLong();
+    private final AtomicLong expiredRows = new AtomicLong();
+
+    private LeaderboardEngine() {
+        this.quizResultDAO = new QuizResultDAO();
+        this.entries = LeaderboardEntries.getInstance();
+        this.updates = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-updates");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ApplicationEventManager events = ApplicationEventManager.getInstance();
+        events.addListener(EventType.QUIZ_COMPLETED, (eventType, data) -> {
+            if (data instanceof QuizResult) {
+                QuizResult result = (QuizResult) data;
+                updates.execute(() -> record(result));
+            }
+        });
+        // Category renames and deletions are not reported in detail; rebuild on next read
+        events.addListener(EventType.CATEGORY_UPDATED, (eventType, data) -> invalidate());
+
+        // Finished periods are only kept until the next sweep. The scheduler only triggers it; the
+        // DELETE runs on the updates thread so it never blocks the shared scheduler pool.
+        AppScheduler.scheduleAtFixedRate(() -> updates.execute(this::expirePeriods), 0, EXPIRY_INTERVAL_MS);
+    }
+
+    public static LeaderboardEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Best results in a category, best first, at most {@link #CATEGORY_LIMIT}
+     */
+    public List<QuizResult> getLeaderboard(int categoryId) {
+        return getLeaderboard(categoryId, LeaderboardPeriod.ALL_TIME);
+    }
+
+    /**
+     * Best results in a category within the current period, best first, at most {@link #CATEGORY_LIMIT}
+     */
+    public List<QuizResult> getLeaderboard(int categoryId, LeaderboardPeriod period) {
+        Board board = boards(period).categoryBoards.get(categoryId);
+        return board != null ? board.snapshot : List.of();
+    }
+
+    /**
+     * Best results across all categories, best first, at most {@link #GLOBAL_LIMIT}
+     */
+    public List<QuizResult> getGlobalLeaderboard() {
+        return getGlobalLeaderboard(LeaderboardPeriod.ALL_TIME);
+    }
+
+    /**
+     * Best results across all categories within the current period, best first, at most {@link #GLOBAL_LIMIT}
+     */
+    public List<QuizResult> getGlobalLeaderboard(LeaderboardPeriod period) {
+        return boards(period).globalBoard.snapshot;
+    }
+
+    /**
+     * Folds a completed quiz into every loaded set of boards whose period it falls in. Results that
+     * cannot place are rejected in O(log K).
+     */
+    public void record(QuizResult result) {
+        eventsApplied.incrementAndGet();
+        // Names may need the database; resolved before taking the lock a load holds while reading
+        QuizResult entry = entries.copyWithNames(result);
+        synchronized (this) {
+            for (Boards boards : boardsByPeriod.values()) {
+                // A result from a period not loaded yet is picked up when that period is loaded
+                if (boards.covers(entry) && boards.offer(entry)) {
+                    boardChanges.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops all boards; they are rebuilt from the database on the next read
+     */
+    public synchronized void invalidate() {
+        boardsByPeriod.clear();
+        entries.forgetCategoryNames();
+    }
+
+    /**
+     * Get engine statistics for monitoring
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        Boards allTime = boardsByPeriod.get(LeaderboardPeriod.ALL_TIME);
+        stats.put("warmups", warmups.get());
+        stats.put("eventsApplied", eventsApplied.get());
+        stats.put("boardChanges", boardChanges.get());
+        stats.put("expiredRows", expiredRows.get());
+        stats.put("periodsLoaded", (long) boardsByPeriod.size());
+        stats.put("categories", allTime != null ? (long) allTime.categoryBoards.size() : 0L);
+        return stats;
+    }
+
+    /**
+     * Boards for the current period, loading them if they are missing or belong to a period that has ended
+     */
+    private Boards boards(LeaderboardPeriod period) {
+        LocalDate periodStart = period.startOf(LocalDate.now());
+        Boards boards = boardsByPeriod.get(period);
+        if (boards != null && boards.periodStart.equals(periodStart)) {
+            return boards;
+        }
+        synchronized (this) {
+            boards = boardsByPeriod.get(period);
+            if (boards != null && boards.periodStart.equals(periodStart)) {
+                return boards;
+            }
+            boards = new Boards(period, periodStart);
+            // Taken first: a result leaves the queue only once it is stored, so each one is in either
+            // the queue or the rows streamed below. Events arriving meanwhile wait for the lock.
+            List<QuizResult> unstored = QuizResultWriter.getInstance().getPendingResults();
+            // Rows arrive best first, so every board fills with its final entries and the rest are rejected
+            try (Stream<QuizResult> rows = period.isWindowed()
+                    ? quizResultDAO.streamLeaderboardPeriodBest(period, periodStart)
+                    : quizResultDAO.streamLeaderboardBest()) {
+                Boards target = boards;
+                rows.forEach(row -> {
+                    entries.rememberNames(row);
+                    target.offer(row);
+                });
+            }
+            for (QuizResult result : unstored) {
+                QuizResult entry = entries.copyWithNames(result);
+                if (boards.covers(entry)) {
+                    boards.offer(entry);
+                }
+            }
+            boardsByPeriod.put(period, boards);
+            warmups.incrementAndGet();
+            return boards;
+        }
+    }
+
+    private void expirePeriods() {
+        try {
+            expiredRows.addAndGet(quizResultDAO.deleteExpiredPeriods(LocalDate.now()));
+        } catch (RuntimeException e) {
+            System.err.println("Error expiring leaderboard periods: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The category boards and the global board of one period. Mutated only under the engine lock.
+     */
+    private static final class Boards {
+        final LeaderboardPeriod period;
+        final LocalDate periodStart;
+        final Map<Integer, Board> categoryBoards = new ConcurrentHashMap<>();
+        final Board globalBoard = new Board(GLOBAL_LIMIT);
+
+        Boards(LeaderboardPeriod period, LocalDate periodStart) {
+            this.period = period;
+            this.periodStart = periodStart;
+        }
+
+        /**
+         * True if the result was completed within this period
+         */
+        boolean covers(QuizResult result) {
+            LocalDate completedOn = result.getCompletedAt().toLocalDateTime().toLocalDate();
+            return periodStart.equals(period.startOf(completedOn));
+        }
+
+        /**
+         * @return true if the result's category board changed
+         */
+        boolean offer(QuizResult result) {
+            Board board = categoryBoards.computeIfAbsent(result.getCategoryId(), id -> new Board(CATEGORY_LIMIT));
+            boolean changed = board.offer(result);
+            globalBoard.offer(result);
+            return changed;
+        }
+    }
+
+    /**
+     * Top-K entries ordered by {@link LeaderboardEntries#RANK_ORDER}, holding at most one entry per user and category.
+     * <p>
+     * An entry evicted from a full board can be ignored from then on: the lowest entry of a full board
+     * only ever rises, so a later result that is no better than the evicted one cannot place either.
+     */
+    private static final class Board {
+        final int limit;
+        final TreeSet<QuizResult> ranked = new TreeSet<>(LeaderboardEntries.RANK_ORDER);
+        final Map<Long, QuizResult> byKey = new HashMap<>();
+        volatile List<QuizResult> snapshot = List.of();
+
+        Board(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * @return true if the board changed
+         */
+        boolean offer(QuizResult result) {
+            long key = LeaderboardEntries.key(result);
+            QuizResult existing = byKey.get(key);
+            if (existing != null) {
+                if (!LeaderboardEntries.isBetter(result, existing)) {
+                    return false;
+                }
+                ranked.remove(existing);
+            } else if (ranked.size() >= limit && !LeaderboardEntries.isBetter(result, ranked.last())) {
+                return false;
+            }
+
+            ranked.add(result);
+            byKey.put(key, result);
+            if (ranked.size() > limit) {
+                byKey.remove(LeaderboardEntries.key(ranked.pollLast()));
+            }
+            snapshot = List.copyOf(ranked);
+            return true;
+        }
+    }
+}
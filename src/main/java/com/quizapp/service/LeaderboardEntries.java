@@ -0,0 +1,122 @@
+package com.quizapp.service;
+
+import com.quizapp.dao.CategoryDAO;
+import com.quizapp.dao.UserDAO;
+import com.quizapp.model.Category;
+import com.quizapp.model.QuizResult;
+import com.quizapp.model.User;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ranking rules and display names shared by the in-memory leaderboard structures. Entries follow
+ * the {@code leaderboard_best} semantics: one best result per user and category.
+ * <p>
+ * The name caches are concurrent maps and no lock is held while names are read from the database,
+ * so callers can resolve names before taking their own locks.
+ */
+final class LeaderboardEntries {
+    private static final LeaderboardEntries INSTANCE = new LeaderboardEntries();
+
+    // Higher score first, then earlier completion; user and category make the order total
+    static final Comparator<QuizResult> RANK_ORDER = Comparator
+        .comparingInt(QuizResult::getScore).reversed()
+        .thenComparingLong(LeaderboardEntries::completedMillis)
+        .thenComparingInt(QuizResult::getUserId)
+        .thenComparingInt(QuizResult::getCategoryId);
+
+    private final UserDAO userDAO;
+    private final CategoryDAO categoryDAO;
+    private final Map<Integer, String> usernames = new ConcurrentHashMap<>();
+    private final Map<Integer, String> categoryNames = new ConcurrentHashMap<>();
+
+    private LeaderboardEntries() {
+        this.userDAO = new UserDAO();
+        this.categoryDAO = new CategoryDAO();
+    }
+
+    static LeaderboardEntries getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * True if the result ranks strictly ahead of the other
+     */
+    static boolean isBetter(QuizResult result, QuizResult other) {
+        return RANK_ORDER.compare(result, other) < 0;
+    }
+
+    /**
+     * Identifies a user's entry within one category
+     */
+    static long key(QuizResult result) {
+        return ((long) result.getUserId() << 32) | (result.getCategoryId() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Remembers the names carried by a row loaded from the database
+     */
+    void rememberNames(QuizResult row) {
+        if (row.getUsername() != null) {
+            usernames.putIfAbsent(row.getUserId(), row.getUsername());
+        }
+        if (row.getCategoryName() != null) {
+            categoryNames.putIfAbsent(row.getCategoryId(), row.getCategoryName());
+        }
+    }
+
+    void forgetCategoryNames() {
+        categoryNames.clear();
+    }
+
+    /**
+     * Copies an event result, filling in the display names the boards need. Names are cached, so the
+     * database is only consulted for a user's or category's first result.
+     */
+    QuizResult copyWithNames(QuizResult source) {
+        QuizResult result = new QuizResult();
+        result.setResultId(source.getResultId());
+        result.setUserId(source.getUserId());
+        result.setCategoryId(source.getCategoryId());
+        result.setScore(source.getScore());
+        result.setCorrectAnswers(source.getCorrectAnswers());
+        result.setTotalQuestions(source.getTotalQuestions());
+        result.setTimeTaken(source.getTimeTaken());
+        result.setCompletedAt(source.getCompletedAt() != null
+            ? source.getCompletedAt() : new Timestamp(System.currentTimeMillis()));
+        result.setClientId(source.getClientId());
+
+        String username = source.getUsername();
+        if (username == null) {
+            username = usernames.get(source.getUserId());
+        }
+        if (username == null) {
+            // Concurrent misses may both query; they find the same name
+            username = userDAO.findById(source.getUserId()).map(User::getUsername).orElse(null);
+            if (username != null) {
+                usernames.putIfAbsent(source.getUserId(), username);
+            }
+        }
+        String categoryName = source.getCategoryName();
+        if (categoryName == null) {
+            categoryName = categoryNames.get(source.getCategoryId());
+        }
+        if (categoryName == null) {
+            categoryName = categoryDAO.findById(source.getCategoryId()).map(Category::getName).orElse(null);
+            if (categoryName != null) {
+                categoryNames.putIfAbsent(source.getCategoryId(), categoryName);
+            }
+        }
+        result.setUsername(username);
+        result.setCategoryName(categoryName);
+        return result;
+    }
+
+    private static long completedMillis(QuizResult result) {
+        Timestamp completedAt = result.getCompletedAt();
+        return completedAt != null ? completedAt.getTime() : Long.MAX_VALUE;
+    }
+}
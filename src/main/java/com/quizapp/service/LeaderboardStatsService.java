@@ -0,0 +1,171 @@
+package com.quizapp.service;
+
+import com.quizapp.dao.QuizResultDAO;
+import com.quizapp.model.LeaderboardPeriod;
+import com.quizapp.model.LeaderboardStats;
+import com.quizapp.model.QuizResult;
+import com.quizapp.service.ApplicationEventManager.EventType;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Summary statistics for every leaderboard, covering all ranked users rather than the rows on the
+ * board. All categories of a period are summarized in one aggregate query on first use and cached.
+ * A {@link EventType#QUIZ_COMPLETED} event only marks its category stale: the next read re-aggregates
+ * that one category, and the all-categories summary is merged from the cached per-category ones
+ * without going back to the database. A category stays stale until results queued by
+ * {@link QuizResultWriter} have reached the database.
+ */
+public final class LeaderboardStatsService {
+    private static final LeaderboardStatsService INSTANCE = new LeaderboardStatsService();
+
+    private final QuizResultDAO quizResultDAO;
+    private final Map<LeaderboardPeriod, PeriodStats> statsByPeriod = new ConcurrentHashMap<>();
+
+    private final AtomicLong fullAggregations = new AtomicLong();
+    private final AtomicLong categoryAggregations = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    private LeaderboardStatsService() {
+        this.quizResultDAO = new QuizResultDAO();
+
+        ApplicationEventManager events = ApplicationEventManager.getInstance();
+        events.addListener(EventType.QUIZ_COMPLETED, (eventType, data) -> {
+            if (data instanceof QuizResult) {
+                markStale((QuizResult) data);
+            }
+        });
+        events.addListener(EventType.CATEGORY_UPDATED, (eventType, data) -> invalidate());
+    }
+
+    public static LeaderboardStatsService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Summary of a category's leaderboard in the current period
+     * @param categoryId category to summarize, or 0 for all categories
+     */
+    public LeaderboardStats getSummary(int categoryId, LeaderboardPeriod period) {
+        PeriodStats stats = periodStats(period);
+        if (categoryId != 0) {
+            if (stats.stale.contains(categoryId)) {
+                refresh(stats, categoryId);
+            } else {
+                cacheHits.incrementAndGet();
+            }
+            return stats.byCategory.getOrDefault(categoryId, LeaderboardStats.EMPTY);
+        }
+
+        for (Integer staleId : List.copyOf(stats.stale)) {
+            refresh(stats, staleId);
+        }
+        LeaderboardStats global = stats.global;
+        if (global != null) {
+            cacheHits.incrementAndGet();
+            return global;
+        }
+        synchronized (this) {
+            global = LeaderboardStats.merge(stats.byCategory.values());
+            stats.global = global;
+            return global;
+        }
+    }
+
+    /**
+     * Drops every cached summary; they are aggregated again on the next read
+     */
+    public void invalidate() {
+        statsByPeriod.clear();
+    }
+
+    /**
+     * Get statistics service statistics for monitoring
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("fullAggregations", fullAggregations.get());
+        stats.put("categoryAggregations", categoryAggregations.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("periodsLoaded", (long) statsByPeriod.size());
+        return stats;
+    }
+
+    private void markStale(QuizResult result) {
+        if (result.getCompletedAt() == null) {
+            // Period unknown; start over
+            invalidate();
+            return;
+        }
+        LocalDate completedOn = result.getCompletedAt().toLocalDateTime().toLocalDate();
+        for (PeriodStats stats : statsByPeriod.values()) {
+            if (stats.periodStart.equals(stats.period.startOf(completedOn))) {
+                stats.stale.add(result.getCategoryId());
+                stats.global = null;
+            }
+        }
+    }
+
+    /**
+     * Summaries of the current period, aggregating all categories if they are missing or belong to a
+     * period that has ended
+     */
+    private PeriodStats periodStats(LeaderboardPeriod period) {
+        LocalDate periodStart = period.startOf(LocalDate.now());
+        PeriodStats stats = statsByPeriod.get(period);
+        if (stats != null && stats.periodStart.equals(periodStart)) {
+            return stats;
+        }
+        synchronized (this) {
+            stats = statsByPeriod.get(period);
+            if (stats != null && stats.periodStart.equals(periodStart)) {
+                return stats;
+            }
+            stats = new PeriodStats(period, periodStart);
+            stats.byCategory.putAll(quizResultDAO.aggregateLeaderboardStats(period, periodStart, 0));
+            fullAggregations.incrementAndGet();
+            statsByPeriod.put(period, stats);
+            return stats;
+        }
+    }
+
+    private synchronized void refresh(PeriodStats stats, int categoryId) {
+        // Cleared first, so an event arriving during the query marks the category stale again
+        if (!stats.stale.remove(categoryId)) {
+            return;
+        }
+        // Results are stored write-behind; while some are still queued the query may miss them
+        boolean writesPending = QuizResultWriter.getInstance().getPendingCount() > 0;
+        LeaderboardStats summary = quizResultDAO.aggregateLeaderboardStats(stats.period, stats.periodStart, categoryId)
+            .getOrDefault(categoryId, LeaderboardStats.EMPTY);
+        stats.byCategory.put(categoryId, summary);
+        stats.global = null;
+        if (writesPending) {
+            stats.stale.add(categoryId);
+        }
+        categoryAggregations.incrementAndGet();
+    }
+
+    /**
+     * Cached summaries of one period
+     */
+    private static final class PeriodStats {
+        final LeaderboardPeriod period;
+        final LocalDate periodStart;
+        final Map<Integer, LeaderboardStats> byCategory = new ConcurrentHashMap<>();
+        final Set<Integer> stale = ConcurrentHashMap.newKeySet();
+        // Merged from byCategory; null once any category changes
+        volatile LeaderboardStats global;
+
+        PeriodStats(LeaderboardPeriod period, LocalDate periodStart) {
+            this.period = period;
+            this.periodStart = periodStart;
+        }
+    }
+}
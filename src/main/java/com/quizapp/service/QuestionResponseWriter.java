@@ -0,0 +1,170 @@
+package com.quizapp.service;
+
+import com.quizapp.admin.dao.QuestionResponseDAO;
+import com.quizapp.admin.dao.QuizAttemptDAO;
+import com.quizapp.admin.dao.impl.QuestionResponseDAOImpl;
+import com.quizapp.admin.dao.impl.QuizAttemptDAOImpl;
+import com.quizapp.admin.model.QuestionResponse;
+import com.quizapp.admin.model.QuizAttempt;
+import com.quizapp.config.DatabaseConfig;
+import com.quizapp.util.DatabaseUtil;
+import com.quizapp.util.TransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffered writer for per-question analytics. Finished attempts are queued in memory and written
+ * by a background thread: each flush stores the queued {@code quiz_attempts} rows and then all of
+ * their responses as multi-row inserts, in one transaction. A flush is triggered once per attempt;
+ * attempts queued while a flush is running are written together by the next one.
+ * <p>
+ * Analytics are best effort: if a flush fails, its attempts are written again one transaction each
+ * and only the attempts that still fail are logged and dropped. The quiz score itself is kept
+ * durable by {@link QuizResultWriter}.
+ */
+public final class QuestionResponseWriter {
+    private static final QuestionResponseWriter INSTANCE = new QuestionResponseWriter();
+
+    private final QuizAttemptDAO quizAttemptDAO;
+    private final QuestionResponseDAO questionResponseDAO;
+    private final int maxResponsesPerFlush;
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<PendingAttempt> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final AtomicLong attemptsWritten = new AtomicLong();
+    private final AtomicLong responsesWritten = new AtomicLong();
+    private final AtomicLong attemptsDropped = new AtomicLong();
+
+    private QuestionResponseWriter() {
+        this.quizAttemptDAO = new QuizAttemptDAOImpl();
+        this.questionResponseDAO = new QuestionResponseDAOImpl();
+        this.maxResponsesPerFlush = DatabaseConfig.getBatchSize();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "question-response-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Flushed by the pool's shutdown hook before it closes, so the last attempt is not lost
+        DatabaseUtil.beforeShutdown(this::shutdown);
+    }
+
+    public static QuestionResponseWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues a finished attempt and its responses; returns without touching the database.
+     * The attempt ID of every response is filled in when the attempt row is created.
+     */
+    public void submit(QuizAttempt attempt, List<QuestionResponse> responses) {
+        queue.add(new PendingAttempt(attempt, new ArrayList<>(responses)));
+        if (!executor.isShutdown() && flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Get writer statistics for monitoring
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("queuedAttempts", (long) queue.size());
+        stats.put("attemptsWritten", attemptsWritten.get());
+        stats.put("responsesWritten", responsesWritten.get());
+        stats.put("attemptsDropped", attemptsDropped.get());
+        return stats;
+    }
+
+    /**
+     * Stops the background thread, then writes whatever is still queued
+     */
+    public void shutdown() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                // Each flush takes at most one chunk; failed attempts are dropped, so this ends
+                while (!queue.isEmpty()) {
+                    flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        List<PendingAttempt> batch = new ArrayList<>();
+        int responseCount = 0;
+        PendingAttempt next;
+        // Cap each transaction at roughly one insert chunk; the rest goes to the next flush
+        while (responseCount < maxResponsesPerFlush && (next = queue.poll()) != null) {
+            batch.add(next);
+            responseCount += next.responses.size();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            store(batch, responseCount);
+        } catch (RuntimeException e) {
+            // Keep one bad attempt from taking the others down with it
+            for (PendingAttempt pending : batch) {
+                try {
+                    store(List.of(pending), pending.responses.size());
+                } catch (RuntimeException attemptError) {
+                    attemptsDropped.incrementAndGet();
+                    System.err.println("Error saving question responses for attempt of user "
+                        + pending.attempt.getUserId() + ": " + attemptError.getMessage());
+                }
+            }
+        }
+
+        if (!queue.isEmpty() && !executor.isShutdown() && flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes the attempts and all of their responses in one transaction
+     */
+    private void store(List<PendingAttempt> attempts, int responseCount) {
+        List<QuestionResponse> responses = new ArrayList<>(responseCount);
+        TransactionManager.inTransaction(() -> {
+            for (PendingAttempt pending : attempts) {
+                int attemptId = quizAttemptDAO.create(pending.attempt);
+                for (QuestionResponse response : pending.responses) {
+                    response.setAttemptId(attemptId);
+                    responses.add(response);
+                }
+            }
+            questionResponseDAO.createBatch(responses);
+        });
+        attemptsWritten.addAndGet(attempts.size());
+        responsesWritten.addAndGet(responses.size());
+    }
+
+    private static final class PendingAttempt {
+        final QuizAttempt attempt;
+        final List<QuestionResponse> responses;
+
+        PendingAttempt(QuizAttempt attempt, List<QuestionResponse> responses) {
+            this.attempt = attempt;
+            this.responses = responses;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.quizapp.service;
+
+import com.quizapp.dao.QuestionBank;
+import com.quizapp.model.Question;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Picks distinct random items from a question pool without copying or shuffling the whole pool.
+ * Uses Robert Floyd's sampling algorithm, which draws exactly {@code count} random numbers,
+ * followed by a Fisher-Yates shuffle of the picked items only, so the cost is O(count)
+ * regardless of the pool size. The same seed over the same pool always yields the same quiz.
+ * Stratified sampling draws from the per-level lists of a {@link QuestionBank} the same way.
+ */
+public final class QuestionSampler {
+
+    private QuestionSampler() {
+    }
+
+    /**
+     * @param pool the items to sample from; not modified
+     * @param count number of items wanted; fewer are returned if the pool is smaller
+     * @param random source of randomness, seed it to make the selection reproducible
+     * @return a new mutable list of distinct items in random order
+     */
+    public static <T> List<T> sample(List<T> pool, int count, Random random) {
+        int size = pool.size();
+        int k = Math.min(Math.max(count, 0), size);
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+
+        Set<Integer> picked = new HashSet<>(k * 2);
+        List<T> selection = new ArrayList<>(k);
+        for (int j = size - k; j < size; j++) {
+            int candidate = random.nextInt(j + 1);
+            int index = picked.add(candidate) ? candidate : j;
+            if (index == j) {
+                picked.add(j);
+            }
+            selection.add(pool.get(index));
+        }
+
+        // Floyd's picks are uniform as a set but not in order
+        for (int i = k - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            T tmp = selection.get(i);
+            selection.set(i, selection.get(swap));
+            selection.set(swap, tmp);
+        }
+        return selection;
+    }
+
+    /**
+     * Samples questions following a difficulty mix. A level that has fewer questions than its
+     * quota is topped up from its nearest levels, so the quiz still has {@code count} questions
+     * whenever the category does.
+     * @return a new mutable list with the levels interleaved in random order
+     */
+    public static List<Question> sample(QuestionBank bank, DifficultyMix mix, int count, Random random) {
+        int wanted = Math.min(Math.max(count, 0), bank.size());
+        Map<String, Integer> take = new LinkedHashMap<>();
+        Map<String, Integer> deficits = new LinkedHashMap<>();
+        mix.quotas(wanted).forEach((level, quota) -> {
+            int taken = Math.min(quota, bank.size(level));
+            take.put(level, taken);
+            if (taken < quota) {
+                deficits.put(level, quota - taken);
+            }
+        });
+
+        for (Map.Entry<String, Integer> deficit : deficits.entrySet()) {
+            int missing = deficit.getValue();
+            for (String neighbour : bank.neighboursOf(deficit.getKey())) {
+                if (missing == 0) {
+                    break;
+                }
+                int taken = take.getOrDefault(neighbour, 0);
+                int extra = Math.min(missing, bank.size(neighbour) - taken);
+                if (extra > 0) {
+                    take.put(neighbour, taken + extra);
+                    missing -= extra;
+                }
+            }
+        }
+
+        List<Question> selection = new ArrayList<>(wanted);
+        take.forEach((level, n) -> selection.addAll(sample(bank.getQuestions(level), n, random)));
+        for (int i = selection.size() - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            Question tmp = selection.get(i);
+            selection.set(i, selection.get(swap));
+            selection.set(swap, tmp);
+        }
+        return selection;
+    }
+}
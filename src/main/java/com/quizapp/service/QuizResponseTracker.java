@@ -0,0 +1,62 @@
+package com.quizapp.service;
+
+import com.quizapp.admin.model.QuestionResponse;
+import com.quizapp.model.Question;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records, for one quiz attempt, how long each question was on screen. Updates are plain array
+ * writes on the UI thread; the responses are built once when the attempt is finished, taking the
+ * chosen options from the final {@link QuizSession} snapshot.
+ */
+public class QuizResponseTracker {
+    private final long[] timeSpentMs;
+    private int shownIndex = -1;
+    private long shownAt;
+
+    public QuizResponseTracker(int questionCount) {
+        this.timeSpentMs = new long[questionCount];
+    }
+
+    /**
+     * Starts timing a question, charging the time since the previous call to the question shown before
+     */
+    public void questionShown(int index) {
+        stopClock();
+        shownIndex = index;
+        shownAt = System.nanoTime();
+    }
+
+    /**
+     * Stops timing; call when the quiz is submitted or abandoned
+     */
+    public void finish() {
+        stopClock();
+        shownIndex = -1;
+    }
+
+    /**
+     * Builds one response per question; unanswered questions have a selected option of -1.
+     * The attempt ID is assigned when the attempt is stored.
+     */
+    public List<QuestionResponse> toResponses(QuizSession.State state) {
+        List<Question> questions = state.getQuestions();
+        List<QuestionResponse> responses = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size() && i < timeSpentMs.length; i++) {
+            Question question = questions.get(i);
+            int selected = state.getAnswer(i);
+            boolean correct = selected >= 0 && selected == question.getCorrectOptionIndex();
+            int seconds = (int) Math.round(timeSpentMs[i] / 1000.0);
+            responses.add(new QuestionResponse(0, question.getQuestionId(), selected, correct, seconds));
+        }
+        return responses;
+    }
+
+    private void stopClock() {
+        if (shownIndex >= 0 && shownIndex < timeSpentMs.length) {
+            timeSpentMs[shownIndex] += (System.nanoTime() - shownAt) / 1_000_000L;
+        }
+    }
+}
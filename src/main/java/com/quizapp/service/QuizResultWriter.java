@@ -0,0 +1,372 @@
+package com.quizapp.service;
+
+import com.quizapp.config.DatabaseConfig;
+import com.quizapp.dao.QuizResultDAO;
+import com.quizapp.model.QuizResult;
+import com.quizapp.util.DatabaseUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind persistence for quiz results. {@link #submit} appends the result to a local
+ * journal file and returns immediately; a background thread flushes pending results to
+ * {@code quiz_results} in batches, backing off exponentially while the database is unavailable.
+ * <p>
+ * Every result carries a client-generated ID that is unique in the database, so a batch that was
+ * stored but not acknowledged (e.g. the app died mid-flush) is skipped when replayed. Results still
+ * in the journal at startup are flushed again.
+ * <p>
+ * Journal format, one record per line: {@code R <fields...>} for a submitted result and
+ * {@code A <clientId>} once it is stored. The file is truncated whenever nothing is pending.
+ * <p>
+ * When a batch fails, its results are retried one at a time so a single bad row cannot hold back
+ * the rest. A result the database rejects as invalid (an integrity or data error, which no retry
+ * will fix) is moved to a dead-letter file next to the journal, in the same record format; any
+ * other error is treated as the database being unavailable and retried with backoff.
+ */
+public final class QuizResultWriter {
+    private static final QuizResultWriter INSTANCE = new QuizResultWriter();
+
+    private static final String RESULT_RECORD = "R";
+    private static final String ACK_RECORD = "A";
+    private static final String SEPARATOR = "\t";
+    private static final int RESULT_FIELDS = 9;
+
+    private final QuizResultDAO quizResultDAO;
+    private final Path journal;
+    private final Path deadLetters;
+    private final long flushIntervalMs;
+    private final long maxRetryDelayMs;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+
+    // Guarded by this, together with every journal write
+    private final Map<String, QuizResult> pending = new LinkedHashMap<>();
+    private boolean journalAvailable = true;
+
+    // Only touched by the writer thread
+    private int consecutiveFailures;
+    private long nextAttemptAt;
+
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    private QuizResultWriter() {
+        this.quizResultDAO = new QuizResultDAO();
+        this.journal = Paths.get(DatabaseConfig.getResultJournalPath());
+        this.deadLetters = Paths.get(journal + ".dead");
+        this.flushIntervalMs = DatabaseConfig.getResultFlushIntervalMs();
+        this.maxRetryDelayMs = DatabaseConfig.getResultMaxRetryDelayMs();
+        this.batchSize = DatabaseConfig.getBatchSize();
+
+        replayJournal();
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quiz-result-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushIfDue, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        // Flushed by the pool's shutdown hook before it closes, not by a hook of its own racing it
+        DatabaseUtil.beforeShutdown(this::shutdown);
+    }
+
+    public static QuizResultWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a completed quiz without waiting for the database. Assigns a client ID and completion
+     * time if the result has none; submitting the same client ID twice stores it once.
+     * @return the same result, with client ID and completion time set
+     */
+    public QuizResult submit(QuizResult result) {
+        if (result.getClientId() == null) {
+            result.setClientId(UUID.randomUUID().toString());
+        }
+        if (result.getCompletedAt() == null) {
+            result.setCompletedAt(new Timestamp(System.currentTimeMillis()));
+        }
+
+        boolean flushNow;
+        synchronized (this) {
+            if (pending.containsKey(result.getClientId())) {
+                return result;
+            }
+            appendToJournal(encode(result));
+            pending.put(result.getClientId(), result);
+            flushNow = pending.size() >= batchSize;
+        }
+        if (flushNow && !executor.isShutdown()) {
+            executor.execute(this::flushIfDue);
+        }
+        return result;
+    }
+
+    /**
+     * @return number of results not yet stored in the database
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Results submitted but not yet stored, oldest first. Anything loading results from the database
+     * adds these, since the events announcing them may have fired before the load.
+     */
+    public synchronized List<QuizResult> getPendingResults() {
+        return new ArrayList<>(pending.values());
+    }
+
+    /**
+     * Get writer statistics for monitoring
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("pending", (long) getPendingCount());
+        stats.put("persisted", persisted.get());
+        stats.put("failedFlushes", failedFlushes.get());
+        stats.put("deadLettered", deadLettered.get());
+        return stats;
+    }
+
+    /**
+     * Stops the background thread after one last flush attempt; anything left stays journaled
+     */
+    public void shutdown() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                nextAttemptAt = 0;
+                flushIfDue();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushIfDue() {
+        if (System.currentTimeMillis() < nextAttemptAt) {
+            return;
+        }
+        List<QuizResult> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+        }
+
+        List<QuizResult> stored = batch;
+        List<QuizResult> rejected = new ArrayList<>();
+        try {
+            quizResultDAO.createAll(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1 && !isPermanent(e)) {
+                backOff(batch.size(), e);
+                return;
+            }
+            // Find the rows that cannot be stored; the others go in on their own
+            stored = new ArrayList<>();
+            for (QuizResult result : batch) {
+                try {
+                    quizResultDAO.createAll(List.of(result));
+                    stored.add(result);
+                } catch (RuntimeException rowError) {
+                    if (!isPermanent(rowError)) {
+                        acknowledge(stored, rejected);
+                        backOff(batch.size() - stored.size() - rejected.size(), rowError);
+                        return;
+                    }
+                    rejected.add(result);
+                    System.err.println("Rejected quiz result " + result.getClientId() + ", moved to "
+                        + deadLetters + ": " + rowError.getMessage());
+                }
+            }
+        }
+
+        consecutiveFailures = 0;
+        nextAttemptAt = 0;
+        acknowledge(stored, rejected);
+    }
+
+    private void backOff(int remaining, RuntimeException e) {
+        failedFlushes.incrementAndGet();
+        consecutiveFailures++;
+        long delay = Math.min(maxRetryDelayMs, flushIntervalMs << Math.min(consecutiveFailures, 16));
+        nextAttemptAt = System.currentTimeMillis() + delay;
+        System.err.println("Error saving " + remaining + " quiz results, retrying in " + delay + " ms: " + e.getMessage());
+    }
+
+    /**
+     * Drops stored and dead-lettered results from the pending set and the journal
+     */
+    private void acknowledge(List<QuizResult> stored, List<QuizResult> rejected) {
+        if (stored.isEmpty() && rejected.isEmpty()) {
+            return;
+        }
+        persisted.addAndGet(stored.size());
+        deadLettered.addAndGet(rejected.size());
+        synchronized (this) {
+            if (!rejected.isEmpty()) {
+                StringBuilder records = new StringBuilder();
+                for (QuizResult result : rejected) {
+                    records.append(encode(result));
+                }
+                writeDeadLetters(records.toString());
+            }
+            StringBuilder acks = new StringBuilder();
+            for (List<QuizResult> done : List.of(stored, rejected)) {
+                for (QuizResult result : done) {
+                    pending.remove(result.getClientId());
+                    acks.append(ACK_RECORD).append(SEPARATOR).append(result.getClientId()).append('\n');
+                }
+            }
+            if (pending.isEmpty()) {
+                truncateJournal();
+            } else {
+                appendToJournal(acks.toString());
+            }
+        }
+    }
+
+    /**
+     * Whether the database rejected the data itself, so retrying the same row cannot succeed
+     */
+    private static boolean isPermanent(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLIntegrityConstraintViolationException || cause instanceof SQLDataException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String state = ((SQLException) cause).getSQLState();
+                // Class 22: data exception, class 23: integrity constraint violation
+                if (state != null && (state.startsWith("22") || state.startsWith("23"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void replayJournal() {
+        if (!Files.exists(journal)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(SEPARATOR);
+                if (fields.length == 2 && ACK_RECORD.equals(fields[0])) {
+                    pending.remove(fields[1]);
+                } else if (fields.length == RESULT_FIELDS && RESULT_RECORD.equals(fields[0])) {
+                    try {
+                        QuizResult result = decode(fields);
+                        pending.put(result.getClientId(), result);
+                    } catch (NumberFormatException e) {
+                        System.err.println("Skipping unreadable quiz result journal entry: " + line);
+                    }
+                } else if (!line.isEmpty()) {
+                    // A torn last line from a crash mid-append
+                    System.err.println("Skipping unreadable quiz result journal entry: " + line);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading quiz result journal " + journal + ": " + e.getMessage());
+        }
+
+        // Rewrite with only the results that still need storing
+        StringBuilder compacted = new StringBuilder();
+        for (QuizResult result : pending.values()) {
+            compacted.append(encode(result));
+        }
+        writeJournal(compacted.toString(), StandardOpenOption.TRUNCATE_EXISTING);
+        if (!pending.isEmpty()) {
+            System.out.println("Replaying " + pending.size() + " journaled quiz results");
+        }
+    }
+
+    private void appendToJournal(String records) {
+        writeJournal(records, StandardOpenOption.APPEND);
+    }
+
+    private void truncateJournal() {
+        writeJournal("", StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void writeJournal(String records, StandardOpenOption mode) {
+        if (!journalAvailable) {
+            return;
+        }
+        try {
+            Path parent = journal.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(journal, records.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            // Keep going in memory only; results are still flushed, just not crash-safe
+            journalAvailable = false;
+            System.err.println("Quiz result journal " + journal + " is not writable: " + e.getMessage());
+        }
+    }
+
+    private void writeDeadLetters(String records) {
+        try {
+            Files.write(deadLetters, records.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            System.err.println("Error writing quiz result dead letters " + deadLetters + ": " + e.getMessage()
+                + "; lost: " + records);
+        }
+    }
+
+    private static String encode(QuizResult result) {
+        return String.join(SEPARATOR,
+            RESULT_RECORD,
+            result.getClientId(),
+            Integer.toString(result.getUserId()),
+            Integer.toString(result.getCategoryId()),
+            Integer.toString(result.getScore()),
+            Integer.toString(result.getTotalQuestions()),
+            Integer.toString(result.getTimeTaken()),
+            Long.toString(result.getCompletedAt().getTime()),
+            Integer.toString(result.getCorrectAnswers())) + '\n';
+    }
+
+    private static QuizResult decode(String[] fields) {
+        QuizResult result = new QuizResult();
+        result.setClientId(fields[1]);
+        result.setUserId(Integer.parseInt(fields[2]));
+        result.setCategoryId(Integer.parseInt(fields[3]));
+        result.setScore(Integer.parseInt(fields[4]));
+        result.setTotalQuestions(Integer.parseInt(fields[5]));
+        result.setTimeTaken(Integer.parseInt(fields[6]));
+        result.setCompletedAt(new Timestamp(Long.parseLong(fields[7])));
+        result.setCorrectAnswers(Integer.parseInt(fields[8]));
+        return result;
+    }
+}
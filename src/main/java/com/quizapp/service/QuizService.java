@@ -1,18 +1,26 @@
 package com.quizapp.service;
 
+import com.quizapp.admin.model.QuestionResponse;
+import com.quizapp.admin.model.QuizAttempt;
 import com.quizapp.dao.AnswerDao;
 import com.quizapp.dao.CategoryDAO;
+import com.quizapp.dao.QuestionBank;
+import com.quizapp.dao.QuestionBankCache;
 import com.quizapp.dao.QuestionDAO;
 import com.quizapp.dao.QuizResultDAO;
 import com.quizapp.model.Answer;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
 import com.quizapp.model.QuizResult;
+import com.quizapp.service.ApplicationEventManager.EventType;
+import com.quizapp.util.ExceptionHandler;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Service for quiz-related business logic.
@@ -23,6 +31,12 @@ public class QuizService {
     private final QuizResultDAO quizResultDAO;
     private final AnswerDao answerDao;
 
+    static {
+        // Category edits in the admin panel can move or remove questions wholesale
+        ApplicationEventManager.getInstance().addListener(EventType.CATEGORY_UPDATED,
+            (eventType, data) -> QuestionBankCache.getInstance().invalidateAll());
+    }
+
     public QuizService() {
         this.categoryDAO = new CategoryDAO();
         this.questionDAO = new QuestionDAO();
@@ -55,49 +69,36 @@ public class QuizService {
      * Retrieves questions for a quiz, shuffled and limited to the requested count.
      */
     public List<Question> getQuestionsForQuiz(int categoryId, int count) {
-        List<Question> allQuestions = questionDAO.findByCategoryId(categoryId);
-        
-        if (allQuestions.isEmpty()) {
-            return Collections.emptyList();
-        }
-        
-        // Shuffle questions for random ordering
-        Collections.shuffle(allQuestions);
-        
-        // Return all questions or limited count, whichever is less
-        int actualCount = Math.min(count, allQuestions.size());
-        return allQuestions.subList(0, actualCount);
+        return getQuestionsForQuiz(categoryId, count, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Retrieves a reproducible random selection of questions: the same seed over an unchanged
+     * category always returns the same questions in the same order.
+     */
+    public List<Question> getQuestionsForQuiz(int categoryId, int count, long seed) {
+        List<Question> allQuestions = questionDAO.findByCategoryIdCached(categoryId);
+        return QuestionSampler.sample(allQuestions, count, new Random(seed));
     }
     
     /**
-     * Retrieves questions for a quiz, with specific difficulty level if requested
+     * Retrieves questions for a quiz, with specific difficulty level if requested. When the level
+     * has too few questions the quiz is topped up from the nearest levels.
      */
     public List<Question> getQuestionsForQuiz(int categoryId, int count, String difficultyLevel) {
-        List<Question> allQuestions = questionDAO.findByCategoryId(categoryId);
-        
-        if (allQuestions.isEmpty()) {
-            return Collections.emptyList();
+        if (difficultyLevel == null || difficultyLevel.isEmpty()) {
+            return getQuestionsForQuiz(categoryId, count);
         }
-        
-        // Filter by difficulty if specified
-        List<Question> filteredQuestions = allQuestions;
-        if (difficultyLevel != null && !difficultyLevel.isEmpty()) {
-            filteredQuestions = allQuestions.stream()
-                .filter(q -> difficultyLevel.equalsIgnoreCase(q.getDifficultyLevel()))
-                .collect(Collectors.toList());
-            
-            // If no questions match the difficulty, fall back to all questions
-            if (filteredQuestions.isEmpty()) {
-                filteredQuestions = allQuestions;
-            }
-        }
-        
-        // Shuffle questions for random ordering
-        Collections.shuffle(filteredQuestions);
-        
-        // Return all questions or limited count, whichever is less
-        int actualCount = Math.min(count, filteredQuestions.size());
-        return filteredQuestions.subList(0, actualCount);
+        return getQuestionsForQuiz(categoryId, count, DifficultyMix.only(difficultyLevel),
+            ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Retrieves questions following a difficulty mix, e.g. {@code DifficultyMix.of(40, 40, 20)}
+     */
+    public List<Question> getQuestionsForQuiz(int categoryId, int count, DifficultyMix mix, long seed) {
+        QuestionBank bank = questionDAO.findQuestionBank(categoryId);
+        return QuestionSampler.sample(bank, mix, count, new Random(seed));
     }
 
     /**
@@ -107,6 +108,25 @@ public class QuizService {
         return quizResultDAO.create(result);
     }
 
+    /**
+     * Records a quiz result without waiting for the database; it is journaled locally and
+     * stored in the background by {@link QuizResultWriter}. The result ID is not assigned.
+     * Fires {@link EventType#QUIZ_COMPLETED} with the submitted result.
+     */
+    public QuizResult submitQuizResult(QuizResult result) {
+        QuizResult submitted = QuizResultWriter.getInstance().submit(result);
+        ApplicationEventManager.getInstance().fireEvent(EventType.QUIZ_COMPLETED, submitted);
+        return submitted;
+    }
+
+    /**
+     * Queues a finished attempt and its per-question responses; they are stored in the
+     * background by {@link QuestionResponseWriter}
+     */
+    public void recordResponses(QuizAttempt attempt, List<QuestionResponse> responses) {
+        QuestionResponseWriter.getInstance().submit(attempt, responses);
+    }
+
     public List<Answer> getAnswersForQuestion(int questionId) {
         try {
             // First try to get answers from the answers table
@@ -115,33 +135,64 @@ public class QuizService {
                 return answers;
             }
         } catch (Exception e) {
-            System.err.println("Error getting answers from answers table: " + e.getMessage());
+            ExceptionHandler.logSevere(e, "Error getting answers from answers table");
         }
         
         // If no answers found or error occurred, create answers from question options
         return createAnswersFromQuestion(questionId);
     }
 
+    /**
+     * Fetches the answers of every question in a quiz with a single query, so moving between
+     * questions needs no further I/O. Questions without rows in the answers table get answers
+     * built from their options.
+     * @return answers keyed by question ID, with an entry for every given question
+     */
+    public Map<Integer, List<Answer>> getAnswersForQuestions(List<Question> questions) {
+        Map<Integer, List<Answer>> answersByQuestion = new HashMap<>();
+        try {
+            List<Integer> questionIds = new ArrayList<>(questions.size());
+            for (Question question : questions) {
+                questionIds.add(question.getQuestionId());
+            }
+            answersByQuestion.putAll(answerDao.findByQuestionIds(questionIds));
+        } catch (Exception e) {
+            ExceptionHandler.logSevere(e, "Error getting answers from answers table");
+        }
+
+        for (Question question : questions) {
+            answersByQuestion.computeIfAbsent(question.getQuestionId(), id -> buildAnswersFromOptions(question));
+        }
+        return answersByQuestion;
+    }
+
     private List<Answer> createAnswersFromQuestion(int questionId) {
-        List<Answer> answers = new ArrayList<>();
         try {
             Question question = questionDAO.findById(questionId).orElse(null);
-            if (question != null && question.getOptions() != null) {
-                List<String> options = question.getOptions();
-                int correctIndex = question.getCorrectOptionIndex();
-                
-                for (int i = 0; i < options.size(); i++) {
-                    Answer answer = new Answer();
-                    answer.setQuestionId(questionId);
-                    answer.setAnswerId(i); // Temporary ID
-                    answer.setAnswerText(options.get(i));
-                    answer.setCorrect(i == correctIndex);
-                    answers.add(answer);
-                }
+            if (question != null) {
+                return buildAnswersFromOptions(question);
             }
         } catch (Exception e) {
             System.err.println("Error creating answers from question: " + e.getMessage());
         }
+        return new ArrayList<>();
+    }
+
+    private List<Answer> buildAnswersFromOptions(Question question) {
+        List<Answer> answers = new ArrayList<>();
+        List<String> options = question.getOptions();
+        if (options == null) {
+            return answers;
+        }
+        int correctIndex = question.getCorrectOptionIndex();
+        for (int i = 0; i < options.size(); i++) {
+            Answer answer = new Answer();
+            answer.setQuestionId(question.getQuestionId());
+            answer.setAnswerId(i); // Temporary ID
+            answer.setAnswerText(options.get(i));
+            answer.setCorrect(i == correctIndex);
+            answers.add(answer);
+        }
         return answers;
     }
 
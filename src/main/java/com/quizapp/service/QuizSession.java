@@ -0,0 +1,253 @@
+package com.quizapp.service;
+
+import com.quizapp.model.Question;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * State machine for one quiz attempt. The whole attempt is an immutable {@link State} snapshot held
+ * in an {@link AtomicReference}; every change (answering, navigating, submitting, timing out) builds
+ * a new snapshot and swaps it in with compare-and-set. Readers on any thread get a consistent view
+ * without locking, and submit/time-out races are settled by whichever transition lands first.
+ * <p>
+ * Time limits are monotonic deadlines taken from {@link System#nanoTime()}, so the remaining time
+ * does not depend on how often a timer happens to tick.
+ */
+public class QuizSession {
+    public static final int NO_ANSWER = -1;
+
+    public enum Status {
+        IN_PROGRESS,
+        SUBMITTED,
+        TIMED_OUT
+    }
+
+    private final AtomicReference<State> state;
+
+    /**
+     * Starts an attempt; the clock starts now
+     * @param questions questions in the order they are asked
+     * @param timeLimitSeconds time limit for the whole attempt
+     */
+    public QuizSession(List<Question> questions, int timeLimitSeconds) {
+        long now = System.nanoTime();
+        int[] answers = new int[questions.size()];
+        Arrays.fill(answers, NO_ANSWER);
+        this.state = new AtomicReference<>(new State(List.copyOf(questions), answers, 0, Status.IN_PROGRESS,
+                now, now + TimeUnit.SECONDS.toNanos(timeLimitSeconds), 0));
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Records the option chosen for a question. Ignored once the attempt has ended or its deadline has passed.
+     * @return the resulting state
+     */
+    public State selectAnswer(int questionIndex, int optionIndex) {
+        return update(current -> {
+            if (questionIndex < 0 || questionIndex >= current.answers.length
+                    || current.answers[questionIndex] == optionIndex || current.isPastDeadline(System.nanoTime())) {
+                return current;
+            }
+            int[] answers = current.answers.clone();
+            answers[questionIndex] = optionIndex;
+            return new State(current.questions, answers, current.currentIndex, current.status,
+                    current.startNanos, current.deadlineNanos, current.endNanos);
+        });
+    }
+
+    /**
+     * Moves to the given question; out-of-range indexes are ignored
+     * @return the resulting state
+     */
+    public State moveTo(int questionIndex) {
+        return update(current -> {
+            if (questionIndex < 0 || questionIndex >= current.questions.size() || questionIndex == current.currentIndex) {
+                return current;
+            }
+            return new State(current.questions, current.answers, questionIndex, current.status,
+                    current.startNanos, current.deadlineNanos, current.endNanos);
+        });
+    }
+
+    public State next() {
+        return moveTo(getState().currentIndex + 1);
+    }
+
+    public State previous() {
+        return moveTo(getState().currentIndex - 1);
+    }
+
+    /**
+     * Ends the attempt at the user's request
+     * @return true if this call ended the attempt, false if it had already ended
+     */
+    public boolean submit() {
+        return end(Status.SUBMITTED, false);
+    }
+
+    /**
+     * Ends the attempt if its deadline has passed
+     * @return true if this call timed the attempt out
+     */
+    public boolean expireIfDue() {
+        return end(Status.TIMED_OUT, true);
+    }
+
+    private boolean end(Status status, boolean onlyIfDue) {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            if (current.status != Status.IN_PROGRESS || (onlyIfDue && !current.isPastDeadline(now))) {
+                return false;
+            }
+            // An attempt cannot take longer than its limit, however late the end is noticed
+            long end = Math.min(now, current.deadlineNanos);
+            State ended = new State(current.questions, current.answers, current.currentIndex, status,
+                    current.startNanos, current.deadlineNanos, end);
+            if (state.compareAndSet(current, ended)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Applies a transition to an in-progress attempt; states of ended attempts are returned unchanged
+     */
+    private State update(UnaryOperator<State> transition) {
+        while (true) {
+            State current = state.get();
+            if (current.status != Status.IN_PROGRESS) {
+                return current;
+            }
+            State updated = transition.apply(current);
+            if (updated == current || state.compareAndSet(current, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * Immutable snapshot of an attempt
+     */
+    public static final class State {
+        private final List<Question> questions;
+        // Never modified after construction; transitions copy it
+        private final int[] answers;
+        private final int currentIndex;
+        private final Status status;
+        private final long startNanos;
+        private final long deadlineNanos;
+        private final long endNanos;
+
+        private State(List<Question> questions, int[] answers, int currentIndex, Status status,
+                      long startNanos, long deadlineNanos, long endNanos) {
+            this.questions = questions;
+            this.answers = answers;
+            this.currentIndex = currentIndex;
+            this.status = status;
+            this.startNanos = startNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.endNanos = endNanos;
+        }
+
+        public List<Question> getQuestions() {
+            return questions;
+        }
+
+        public int getQuestionCount() {
+            return questions.size();
+        }
+
+        public int getCurrentIndex() {
+            return currentIndex;
+        }
+
+        public Question getCurrentQuestion() {
+            return questions.isEmpty() ? null : questions.get(currentIndex);
+        }
+
+        /**
+         * @return the chosen option index, or {@link #NO_ANSWER}
+         */
+        public int getAnswer(int questionIndex) {
+            return answers[questionIndex];
+        }
+
+        public boolean isAnswered(int questionIndex) {
+            return answers[questionIndex] != NO_ANSWER;
+        }
+
+        public int getAnsweredCount() {
+            int count = 0;
+            for (int answer : answers) {
+                if (answer != NO_ANSWER) count++;
+            }
+            return count;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public boolean isEnded() {
+            return status != Status.IN_PROGRESS;
+        }
+
+        /**
+         * Remaining time in whole seconds, rounded up so the display only reaches zero at the deadline
+         */
+        public int getRemainingSeconds() {
+            long now = isEnded() ? endNanos : System.nanoTime();
+            long remaining = deadlineNanos - now;
+            return remaining > 0 ? (int) TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1) : 0;
+        }
+
+        /**
+         * Time spent so far, or the total time of an ended attempt, in whole seconds
+         */
+        public int getElapsedSeconds() {
+            long now = isEnded() ? endNanos : Math.min(System.nanoTime(), deadlineNanos);
+            return (int) TimeUnit.NANOSECONDS.toSeconds(now - startNanos);
+        }
+
+        public int getCorrectCount() {
+            int count = 0;
+            for (int i = 0; i < answers.length; i++) {
+                if (isCorrect(i)) count++;
+            }
+            return count;
+        }
+
+        public int getPoints() {
+            int points = 0;
+            for (int i = 0; i < answers.length; i++) {
+                if (isCorrect(i)) points += questions.get(i).getPoints();
+            }
+            return points;
+        }
+
+        public int getMaxPoints() {
+            int points = 0;
+            for (Question question : questions) {
+                points += question.getPoints();
+            }
+            return points;
+        }
+
+        private boolean isCorrect(int questionIndex) {
+            return answers[questionIndex] != NO_ANSWER
+                    && answers[questionIndex] == questions.get(questionIndex).getCorrectOptionIndex();
+        }
+
+        private boolean isPastDeadline(long now) {
+            return now - deadlineNanos >= 0;
+        }
+    }
+}
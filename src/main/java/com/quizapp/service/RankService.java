@@ -0,0 +1,245 @@
+package com.quizapp.service;
+
+import com.quizapp.dao.QuizResultDAO;
+import com.quizapp.model.QuizResult;
+import com.quizapp.service.ApplicationEventManager.EventType;
+import com.quizapp.util.OrderStatisticTree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Ranks every user in every category, not just the top of the board. Each category keeps all of its
+ * best-per-user results in an {@link OrderStatisticTree} ordered like the leaderboards, so a user's
+ * rank, percentile and neighbours come back in O(log n) without scanning results.
+ * <p>
+ * The rankings are warmed once from {@code leaderboard_best} on first use and then updated
+ * incrementally from {@link EventType#QUIZ_COMPLETED} events, applied in order on a background thread
+ * so the thread firing them (usually the EDT) never waits for warm-up. Results are stored write-behind, so
+ * warm-up also folds in whatever {@link QuizResultWriter} has not stored yet.
+ */
+public final class RankService {
+    private static final RankService INSTANCE = new RankService();
+
+    private final QuizResultDAO quizResultDAO;
+    private final LeaderboardEntries entries;
+    private final Map<Integer, Ranking> rankings = new ConcurrentHashMap<>();
+    private final ExecutorService updates;
+    private volatile boolean warmed;
+
+    private final AtomicLong warmups = new AtomicLong();
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+
+    private RankService() {
+        this.quizResultDAO = new QuizResultDAO();
+        this.entries = LeaderboardEntries.getInstance();
+        this.updates = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rank-updates");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ApplicationEventManager events = ApplicationEventManager.getInstance();
+        events.addListener(EventType.QUIZ_COMPLETED, (eventType, data) -> {
+            if (data instanceof QuizResult) {
+                QuizResult result = (QuizResult) data;
+                updates.execute(() -> record(result));
+            }
+        });
+        events.addListener(EventType.CATEGORY_UPDATED, (eventType, data) -> invalidate());
+    }
+
+    public static RankService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Looks up where a user stands in a category
+     * @param neighbours how many entries to return on each side of the user
+     * @return the user's standing, or null if they have no result in the category
+     */
+    public Standing getStanding(int userId, int categoryId, int neighbours) {
+        ensureWarm();
+        lookups.incrementAndGet();
+        Ranking ranking = rankings.get(categoryId);
+        return ranking != null ? ranking.standing(userId, Math.max(0, neighbours)) : null;
+    }
+
+    /**
+     * Folds a completed quiz into its category's ranking if it improves the user's best
+     */
+    public void record(QuizResult result) {
+        eventsApplied.incrementAndGet();
+        // Names may need the database; resolved before taking the lock warm-up holds while reading
+        QuizResult entry = entries.copyWithNames(result);
+        synchronized (this) {
+            if (warmed) {
+                // Before warm-up the result is picked up from the database or the writer's queue
+                ranking(entry.getCategoryId()).offer(entry);
+            }
+        }
+    }
+
+    /**
+     * Drops all rankings; they are rebuilt from the database on the next lookup
+     */
+    public synchronized void invalidate() {
+        rankings.clear();
+        entries.forgetCategoryNames();
+        warmed = false;
+    }
+
+    /**
+     * Get rank service statistics for monitoring
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("warmups", warmups.get());
+        stats.put("eventsApplied", eventsApplied.get());
+        stats.put("lookups", lookups.get());
+        stats.put("categories", (long) rankings.size());
+        stats.put("entries", rankings.values().stream().mapToLong(Ranking::size).sum());
+        return stats;
+    }
+
+    private void ensureWarm() {
+        if (warmed) {
+            return;
+        }
+        synchronized (this) {
+            if (warmed) {
+                return;
+            }
+            // Taken first: a result leaves the queue only once it is stored, so each one is in either
+            // the queue or the rows streamed below. Events arriving meanwhile wait for the lock.
+            List<QuizResult> unstored = QuizResultWriter.getInstance().getPendingResults();
+            try (Stream<QuizResult> rows = quizResultDAO.streamLeaderboardBest()) {
+                rows.forEach(row -> {
+                    entries.rememberNames(row);
+                    ranking(row.getCategoryId()).offer(row);
+                });
+            }
+            for (QuizResult result : unstored) {
+                ranking(result.getCategoryId()).offer(entries.copyWithNames(result));
+            }
+            warmups.incrementAndGet();
+            warmed = true;
+        }
+    }
+
+    private Ranking ranking(int categoryId) {
+        return rankings.computeIfAbsent(categoryId, id -> new Ranking());
+    }
+
+    /**
+     * A user's position within one category
+     */
+    public static final class Standing {
+        private final int rank;
+        private final int total;
+        private final QuizResult result;
+        private final List<QuizResult> above;
+        private final List<QuizResult> below;
+
+        private Standing(int rank, int total, QuizResult result, List<QuizResult> above, List<QuizResult> below) {
+            this.rank = rank;
+            this.total = total;
+            this.result = result;
+            this.above = above;
+            this.below = below;
+        }
+
+        /**
+         * 1-based rank; rank 1 is the best result
+         */
+        public int getRank() {
+            return rank;
+        }
+
+        /**
+         * Number of ranked users in the category
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Share of ranked users this user places at or above, 0-100; the leader is at 100
+         */
+        public double getPercentile() {
+            return (double) (total - rank + 1) / total * 100;
+        }
+
+        /**
+         * The user's best result in the category
+         */
+        public QuizResult getResult() {
+            return result;
+        }
+
+        /**
+         * Entries ranked directly above the user, best first
+         */
+        public List<QuizResult> getAbove() {
+            return above;
+        }
+
+        /**
+         * Entries ranked directly below the user, best first
+         */
+        public List<QuizResult> getBelow() {
+            return below;
+        }
+    }
+
+    /**
+     * Best result of every user in one category. Guarded by its own lock, so lookups in one category
+     * do not wait on updates to another.
+     */
+    private static final class Ranking {
+        private final OrderStatisticTree<QuizResult> ranked = new OrderStatisticTree<>(LeaderboardEntries.RANK_ORDER);
+        private final Map<Integer, QuizResult> bestByUser = new HashMap<>();
+
+        synchronized void offer(QuizResult result) {
+            QuizResult existing = bestByUser.get(result.getUserId());
+            if (existing != null) {
+                if (!LeaderboardEntries.isBetter(result, existing)) {
+                    return;
+                }
+                ranked.remove(existing);
+            }
+            ranked.add(result);
+            bestByUser.put(result.getUserId(), result);
+        }
+
+        synchronized Standing standing(int userId, int neighbours) {
+            QuizResult result = bestByUser.get(userId);
+            if (result == null) {
+                return null;
+            }
+            int index = ranked.indexOf(result);
+            int total = ranked.size();
+            List<QuizResult> above = new ArrayList<>();
+            for (int i = Math.max(0, index - neighbours); i < index; i++) {
+                above.add(ranked.get(i));
+            }
+            List<QuizResult> below = new ArrayList<>();
+            for (int i = index + 1; i < Math.min(total, index + 1 + neighbours); i++) {
+                below.add(ranked.get(i));
+            }
+            return new Standing(index + 1, total, result, List.copyOf(above), List.copyOf(below));
+        }
+
+        synchronized long size() {
+            return ranked.size();
+        }
+    }
+}
@@ -2,12 +2,11 @@ package com.quizapp.service;
 
 import com.quizapp.dao.UserDAO;
 import com.quizapp.model.User;
+import com.quizapp.util.AppScheduler;
 import com.quizapp.util.SessionManager;
 import javax.swing.SwingUtilities;
 
 import java.util.Optional;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Service for managing user sessions with improved persistence and security
@@ -17,8 +16,8 @@ public class SessionService {
     private static final long SESSION_TIMEOUT = 30 * 60 * 1000; // 30 minutes
     private static final long TOKEN_REFRESH_INTERVAL = 24 * 60 * 60 * 1000; // 24 hours
     
-    private Timer sessionTimer;
-    private Timer tokenRefreshTimer;
+    private AppScheduler.ScheduledTask sessionTimer;
+    private AppScheduler.ScheduledTask tokenRefreshTimer;
     private long lastActivityTime;
     private SessionTimeoutListener timeoutListener;
     private UserDAO userDAO;
@@ -56,13 +55,7 @@ public class SessionService {
             sessionTimer.cancel();
         }
         
-        sessionTimer = new Timer(true);
-        sessionTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                checkSessionTimeout();
-            }
-        }, SESSION_TIMEOUT, SESSION_TIMEOUT);
+        sessionTimer = AppScheduler.scheduleAtFixedRate(this::checkSessionTimeout, SESSION_TIMEOUT, SESSION_TIMEOUT);
     }
     
     private void startTokenRefreshTimer() {
@@ -70,13 +63,9 @@ public class SessionService {
             tokenRefreshTimer.cancel();
         }
         
-        tokenRefreshTimer = new Timer(true);
-        tokenRefreshTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (isLoggedIn() && SessionManager.hasRememberedUser()) {
-                    currentToken = SessionManager.refreshToken();
-                }
+        tokenRefreshTimer = AppScheduler.scheduleAtFixedRate(() -> {
+            if (isLoggedIn() && SessionManager.hasRememberedUser()) {
+                currentToken = SessionManager.refreshToken();
             }
         }, TOKEN_REFRESH_INTERVAL, TOKEN_REFRESH_INTERVAL);
     }
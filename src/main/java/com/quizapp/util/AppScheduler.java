@@ -0,0 +1,207 @@
+package com.quizapp.util;
+
+import javax.swing.SwingUtilities;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Application-wide scheduler replacing per-feature {@code java.util.Timer} threads and Swing timers.
+ * All tasks share a small pool of daemon threads; UI tasks are handed to the EDT.
+ * <p>
+ * Ticks are coalesced rather than queued: a periodic task that falls a whole period behind skips
+ * the missed ticks, and an EDT task never has more than one tick waiting in the event queue.
+ * Tasks should therefore derive their state from the clock (e.g. a deadline) instead of counting
+ * ticks. Active task count and scheduling lag are exposed through {@link #getStats()}.
+ */
+public final class AppScheduler {
+    private static final int POOL_SIZE = 2;
+
+    private static final ScheduledThreadPoolExecutor EXECUTOR;
+    private static final AtomicInteger activeTasks = new AtomicInteger();
+    private static final AtomicLong ticks = new AtomicLong();
+    private static final AtomicLong coalescedTicks = new AtomicLong();
+    private static final AtomicLong totalLagNanos = new AtomicLong();
+    private static final AtomicLong maxLagNanos = new AtomicLong();
+
+    static {
+        AtomicInteger threadNumber = new AtomicInteger();
+        EXECUTOR = new ScheduledThreadPoolExecutor(POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "app-scheduler-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Handle to a scheduled task
+     */
+    public interface ScheduledTask {
+        /**
+         * Stops the task; an EDT tick already queued will not run. Safe to call more than once.
+         */
+        void cancel();
+
+        boolean isCancelled();
+    }
+
+    private AppScheduler() {
+    }
+
+    /**
+     * Runs a task once on a scheduler thread after the delay
+     */
+    public static ScheduledTask schedule(Runnable task, long delayMs) {
+        return submit(new Task(0, false, handle -> task.run()), delayMs);
+    }
+
+    /**
+     * Runs a task repeatedly on a scheduler thread. The task must not block for long, since the
+     * pool is shared with every other timer in the application.
+     */
+    public static ScheduledTask scheduleAtFixedRate(Runnable task, long initialDelayMs, long periodMs) {
+        return submit(new Task(periodMs, false, handle -> task.run()), initialDelayMs);
+    }
+
+    /**
+     * Runs an action once on the EDT after the delay
+     */
+    public static ScheduledTask runLaterOnEdt(long delayMs, Runnable action) {
+        return submit(new Task(0, true, handle -> action.run()), delayMs);
+    }
+
+    /**
+     * Runs a tick repeatedly on the EDT. The tick receives its own handle so it can cancel itself,
+     * e.g. when an animation reaches its last frame.
+     */
+    public static ScheduledTask repeatOnEdt(long initialDelayMs, long periodMs, Consumer<ScheduledTask> tick) {
+        return submit(new Task(periodMs, true, tick), initialDelayMs);
+    }
+
+    /**
+     * Get scheduler statistics for monitoring
+     */
+    public static Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        long tickCount = ticks.get();
+        stats.put("activeTasks", (long) activeTasks.get());
+        stats.put("threads", (long) EXECUTOR.getPoolSize());
+        stats.put("ticks", tickCount);
+        stats.put("coalescedTicks", coalescedTicks.get());
+        stats.put("maxLagMs", TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get()));
+        stats.put("avgLagMs", tickCount > 0 ? TimeUnit.NANOSECONDS.toMillis(totalLagNanos.get() / tickCount) : 0L);
+        return stats;
+    }
+
+    private static ScheduledTask submit(Task task, long delayMs) {
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs));
+        task.nextPlanned = System.nanoTime() + delayNanos;
+        activeTasks.incrementAndGet();
+        if (task.periodNanos > 0) {
+            task.future = EXECUTOR.scheduleAtFixedRate(task, delayNanos, task.periodNanos, TimeUnit.NANOSECONDS);
+        } else {
+            task.future = EXECUTOR.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        }
+        return task;
+    }
+
+    private static void recordLag(long lagNanos) {
+        long lag = Math.max(0, lagNanos);
+        ticks.incrementAndGet();
+        totalLagNanos.addAndGet(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+    }
+
+    private static final class Task implements ScheduledTask, Runnable {
+        final long periodNanos;
+        final boolean onEdt;
+        final Consumer<ScheduledTask> body;
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean edtTickPending = new AtomicBoolean();
+        volatile ScheduledFuture<?> future;
+        // Only touched by the scheduler thread running this task
+        long nextPlanned;
+
+        Task(long periodMs, boolean onEdt, Consumer<ScheduledTask> body) {
+            this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMs);
+            this.onEdt = onEdt;
+            this.body = body;
+        }
+
+        @Override
+        public void run() {
+            if (done.get()) {
+                return;
+            }
+            long planned = nextPlanned;
+            long lag = System.nanoTime() - planned;
+            boolean periodic = periodNanos > 0;
+            if (periodic) {
+                nextPlanned += periodNanos;
+                if (lag >= periodNanos) {
+                    // Catch-up run for a tick we are already a full period late for
+                    coalescedTicks.incrementAndGet();
+                    return;
+                }
+            }
+
+            if (!onEdt) {
+                recordLag(lag);
+                runBody();
+                if (!periodic) {
+                    cancel();
+                }
+                return;
+            }
+
+            if (!edtTickPending.compareAndSet(false, true)) {
+                coalescedTicks.incrementAndGet();
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                edtTickPending.set(false);
+                if (done.get()) {
+                    return;
+                }
+                recordLag(System.nanoTime() - planned);
+                runBody();
+                if (!periodic) {
+                    cancel();
+                }
+            });
+        }
+
+        private void runBody() {
+            try {
+                body.accept(this);
+            } catch (RuntimeException e) {
+                // Keep periodic tasks alive; an escaping exception would silently unschedule them
+                System.err.println("Error in scheduled task: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (done.compareAndSet(false, true)) {
+                activeTasks.decrementAndGet();
+                ScheduledFuture<?> scheduled = future;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return done.get();
+        }
+    }
+}
@@ -4,35 +4,71 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
+/**
+ * Brings the database schema up to date by applying versioned migration scripts from
+ * {@code db/migration} exactly once each. Applied versions and their checksums are recorded
+ * in {@code schema_version}; when the recorded version already matches the latest script,
+ * startup costs a single query.
+ */
 public class DatabaseInitializer {
+    private static final String MIGRATION_PATH = "db/migration/";
+    private static final String LOCK_NAME = "quiz_app_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Known migrations in version order. Add new scripts at the end; never edit an applied one.
+     */
+    private static final List<Migration> MIGRATIONS = List.of(
+        new Migration(1, "baseline schema", "V1__baseline_schema.sql"),
+        new Migration(2, "users is_active", "V2__users_is_active.sql"),
+        new Migration(3, "admin features and attempt indexes", "V3__admin_features_and_attempt_indexes.sql"),
+        new Migration(4, "quiz results client id", "V4__quiz_results_client_id.sql"),
+        new Migration(5, "leaderboard best results", "V5__leaderboard_best.sql"),
+        new Migration(6, "leaderboard period best results", "V6__leaderboard_period_best.sql"),
+        new Migration(7, "quiz results correct answers", "V7__quiz_results_correct_answers.sql"),
+        new Migration(8, "quiz attempts score precision", "V8__quiz_attempts_score_precision.sql")
+    );
+
+    private static final String CREATE_VERSION_TABLE =
+        "CREATE TABLE IF NOT EXISTS schema_version (" +
+        "version INT PRIMARY KEY, " +
+        "description VARCHAR(200) NOT NULL, " +
+        "script VARCHAR(200) NOT NULL, " +
+        "checksum BIGINT NOT NULL, " +
+        "execution_ms INT NOT NULL DEFAULT 0, " +
+        "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+    private static final String SELECT_CURRENT_VERSION = "SELECT MAX(version) FROM schema_version";
+    private static final String SELECT_APPLIED = "SELECT version, checksum FROM schema_version";
+    private static final String UPDATE_CHECKSUM = "UPDATE schema_version SET checksum = ? WHERE version = ?";
+    private static final String INSERT_VERSION =
+        "INSERT INTO schema_version (version, description, script, checksum, execution_ms) VALUES (?, ?, ?, ?, ?)";
+    private static final String COUNT_LEGACY_TABLES =
+        "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'users'";
 
     public static void initializeDatabase() {
+        int latestVersion = MIGRATIONS.get(MIGRATIONS.size() - 1).version;
+
         try (Connection conn = DatabaseUtil.getConnection()) {
-            // Initialize main schema
-            String schema = loadSchemaFile("quiz_db.sql");
-            executeSchema(conn, schema);
-            System.out.println("Database schema initialized successfully");
-            
-            // Check if updates file exists first
-            InputStream updateStream = DatabaseInitializer.class.getClassLoader().getResourceAsStream("db_update.sql");
-            if (updateStream != null) {
-                try {
-                    updateStream.close();
-                    String updateSchema = loadSchemaFile("db_update.sql");
-                    executeSchema(conn, updateSchema);
-                    System.out.println("Database schema updates applied successfully");
-                } catch (IOException e) {
-                    System.err.println("Error reading db_update.sql: " + e.getMessage());
-                }
-            } else {
-                // File doesn't exist, but this is normal for initial setup
-                System.out.println("No schema updates file found (this is normal for initial setup)");
+            int currentVersion = readCurrentVersion(conn);
+            if (currentVersion >= latestVersion) {
+                System.out.println("Database schema is up to date (version " + currentVersion + ")");
+                return;
             }
+
+            migrate(conn, latestVersion);
         } catch (SQLException | IOException e) {
             System.err.println("Error initializing database schema: " + e.getMessage());
             e.printStackTrace();
@@ -40,41 +76,223 @@ public class DatabaseInitializer {
         }
     }
 
-    private static String loadSchemaFile(String filename) throws IOException {
-        try (InputStream is = DatabaseInitializer.class.getClassLoader().getResourceAsStream(filename)) {
+    /**
+     * Returns the highest applied version, or 0 when the version table does not exist yet
+     */
+    private static int readCurrentVersion(Connection conn) {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_CURRENT_VERSION)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+
+    private static void migrate(Connection conn, int latestVersion) throws SQLException, IOException {
+        acquireLock(conn);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(CREATE_VERSION_TABLE);
+            }
+
+            Map<Integer, Long> applied = readAppliedChecksums(conn);
+            if (applied.isEmpty() && hasLegacySchema(conn)) {
+                // Database was created by the old full-replay initializer; adopt it instead of re-seeding
+                Migration baseline = MIGRATIONS.get(0);
+                long checksum = checksum(loadScript(baseline.script));
+                recordVersion(conn, baseline, checksum, 0);
+                applied.put(baseline.version, checksum);
+                System.out.println("Existing schema found, recorded as version " + baseline.version);
+            }
+
+            for (Migration migration : MIGRATIONS) {
+                String script = loadScript(migration.script);
+                long checksum = checksum(script);
+
+                Long appliedChecksum = applied.get(migration.version);
+                if (appliedChecksum != null) {
+                    if (appliedChecksum == legacyChecksum(script)) {
+                        // Recorded before line separators were part of the checksum
+                        updateChecksum(conn, migration.version, checksum);
+                    } else if (appliedChecksum != checksum) {
+                        throw new SQLException("Checksum mismatch for migration " + migration.script +
+                            ": applied scripts must not be modified");
+                    }
+                    continue;
+                }
+
+                long start = System.currentTimeMillis();
+                executeScript(conn, migration.script, script);
+                int elapsed = (int) (System.currentTimeMillis() - start);
+                recordVersion(conn, migration, checksum, elapsed);
+                System.out.println("Applied migration " + migration.script + " in " + elapsed + " ms");
+            }
+            System.out.println("Database schema migrated to version " + latestVersion);
+        } finally {
+            releaseLock(conn);
+        }
+    }
+
+    private static Map<Integer, Long> readAppliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_APPLIED)) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private static boolean hasLegacySchema(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(COUNT_LEGACY_TABLES)) {
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
+    private static void recordVersion(Connection conn, Migration migration, long checksum, int elapsedMs)
+            throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_VERSION)) {
+            stmt.setInt(1, migration.version);
+            stmt.setString(2, migration.description);
+            stmt.setString(3, migration.script);
+            stmt.setLong(4, checksum);
+            stmt.setInt(5, elapsedMs);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static void updateChecksum(Connection conn, int version, long checksum) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(UPDATE_CHECKSUM)) {
+            stmt.setLong(1, checksum);
+            stmt.setInt(2, version);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Serializes migrations across application instances sharing the same database
+     */
+    private static void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for schema migration lock");
+                }
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Error releasing schema migration lock: " + e.getMessage());
+        }
+    }
+
+    private static String loadScript(String filename) throws IOException {
+        try (InputStream is = DatabaseInitializer.class.getClassLoader().getResourceAsStream(MIGRATION_PATH + filename)) {
             if (is == null) {
-                throw new IOException("Could not find " + filename);
+                throw new IOException("Could not find " + MIGRATION_PATH + filename);
             }
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
                 return reader.lines().collect(Collectors.joining("\n"));
             }
         }
     }
 
-    private static void executeSchema(Connection conn, String schema) throws SQLException {
-        // Split the schema into individual statements using a more reliable delimiter
-        String[] statements = schema.split(";");
-        
+    /**
+     * CRC32 over the script with line endings and trailing whitespace normalized
+     */
+    static long checksum(String script) {
+        CRC32 crc = new CRC32();
+        for (String line : script.split("\n")) {
+            crc.update(line.stripTrailing().getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Checksum recorded by earlier versions, which did not separate lines
+     */
+    static long legacyChecksum(String script) {
+        CRC32 crc = new CRC32();
+        for (String line : script.split("\n")) {
+            crc.update(line.stripTrailing().getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+
+    private static void executeScript(Connection conn, String filename, String script) throws SQLException {
         try (Statement stmt = conn.createStatement()) {
-            for (String statement : statements) {
-                String trimmedStmt = statement.trim();
-                if (!trimmedStmt.isEmpty()) {
-                    try {
-                        stmt.execute(trimmedStmt);
-                    } catch (SQLException e) {
-                        // Print the statement that caused the error
-                        System.err.println("Error executing SQL statement: " + trimmedStmt);
-                        System.err.println("SQL Error: " + e.getMessage());
-                        // Only throw the exception for critical errors
-                        if (e.getMessage().contains("Access denied") || 
-                            e.getMessage().contains("Unknown database")) {
-                        throw e;
-                        }
-                        // For other errors, log and continue
-                        System.out.println("Continuing despite SQL error...");
-                    }
+            for (String statement : splitStatements(script)) {
+                try {
+                    stmt.execute(statement);
+                } catch (SQLException e) {
+                    System.err.println("Error executing SQL statement in " + filename + ": " + statement);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits a script on semicolons, ignoring those inside quoted literals and "--" comments
+     */
+    static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        char quote = 0;
+        int length = script.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = script.charAt(i);
+            if (quote != 0) {
+                current.append(c);
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+                current.append(c);
+            } else if (c == '-' && i + 1 < length && script.charAt(i + 1) == '-') {
+                while (i < length && script.charAt(i) != '\n') {
+                    i++;
                 }
+                current.append('\n');
+            } else if (c == ';') {
+                addStatement(statements, current);
+            } else {
+                current.append(c);
             }
         }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String trimmed = current.toString().trim();
+        if (!trimmed.isEmpty()) {
+            statements.add(trimmed);
+        }
+        current.setLength(0);
+    }
+
+    private static final class Migration {
+        final int version;
+        final String description;
+        final String script;
+
+        Migration(int version, String description, String script) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+        }
     }
-} 
\ No newline at end of file
+}
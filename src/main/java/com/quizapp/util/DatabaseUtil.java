@@ -1,41 +1,40 @@
 package com.quizapp.util;
 
+import com.quizapp.config.DatabaseConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.io.InputStream;
-import java.util.Properties;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Hands out JDBC connections from a HikariCP pool configured through {@link DatabaseConfig}.
+ * Callers keep using try-with-resources; closing a pooled connection returns it to the pool.
+ * The pool is closed by a single shutdown hook, after the tasks registered with
+ * {@link #beforeShutdown} have run.
+ */
 public class DatabaseUtil {
-    private static final Properties properties = new Properties();
-    private static String URL;
-    private static String USERNAME;
-    private static String PASSWORD;
+    private static final List<Runnable> BEFORE_SHUTDOWN = new CopyOnWriteArrayList<>();
+    private static HikariDataSource dataSource;
 
     static {
         try {
-            // Load the properties file
-            try (InputStream input = DatabaseUtil.class.getClassLoader().getResourceAsStream("config.properties")) {
-                if (input == null) {
-                    System.err.println("config.properties file not found in the classpath");
-                    throw new RuntimeException("Unable to find config.properties");
-                }
-                properties.load(input);
-                System.out.println("Successfully loaded config.properties");
-            }
-
             // Load the JDBC driver
-            Class.forName(properties.getProperty("db.driver"));
-            System.out.println("Successfully loaded JDBC driver: " + properties.getProperty("db.driver"));
-
-            // Set connection properties
-            URL = properties.getProperty("db.url");
-            USERNAME = properties.getProperty("db.username");
-            PASSWORD = properties.getProperty("db.password");
+            Class.forName(DatabaseConfig.getDbDriver());
+            System.out.println("Successfully loaded JDBC driver: " + DatabaseConfig.getDbDriver());
 
             // Display connection info for troubleshooting (remove in production)
-            System.out.println("Database URL: " + URL);
-            System.out.println("Database User: " + USERNAME);
+            System.out.println("Database URL: " + DatabaseConfig.getDbUrl());
+            System.out.println("Database User: " + DatabaseConfig.getDbUsername());
+
+            dataSource = new HikariDataSource(buildPoolConfig());
+            Runtime.getRuntime().addShutdownHook(new Thread(DatabaseUtil::shutdown, "db-pool-shutdown"));
 
             // Test connection
             testConnection();
@@ -56,9 +55,46 @@ public class DatabaseUtil {
         }
     }
 
+    private static HikariConfig buildPoolConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(DatabaseConfig.getPoolName());
+        config.setDriverClassName(DatabaseConfig.getDbDriver());
+        config.setJdbcUrl(DatabaseConfig.getDbUrl());
+        config.setUsername(DatabaseConfig.getDbUsername());
+        config.setPassword(DatabaseConfig.getDbPassword());
+
+        config.setMaximumPoolSize(DatabaseConfig.getPoolMaximumSize());
+        config.setMinimumIdle(DatabaseConfig.getPoolMinimumIdle());
+        config.setConnectionTimeout(DatabaseConfig.getPoolConnectionTimeoutMs());
+        config.setIdleTimeout(DatabaseConfig.getPoolIdleTimeoutMs());
+        config.setMaxLifetime(DatabaseConfig.getPoolMaxLifetimeMs());
+        config.setLeakDetectionThreshold(DatabaseConfig.getPoolLeakDetectionThresholdMs());
+        config.setRegisterMbeans(true);
+
+        // Statement caching and batching are handled by Connector/J on each physical connection
+        config.addDataSourceProperty("cachePrepStmts", DatabaseConfig.isCachePrepStmts());
+        config.addDataSourceProperty("prepStmtCacheSize", DatabaseConfig.getPrepStmtCacheSize());
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", DatabaseConfig.getPrepStmtCacheSqlLimit());
+        config.addDataSourceProperty("useServerPrepStmts", DatabaseConfig.isUseServerPrepStmts());
+        config.addDataSourceProperty("rewriteBatchedStatements", DatabaseConfig.isRewriteBatchedStatements());
+        config.addDataSourceProperty("useLocalSessionState", true);
+        config.addDataSourceProperty("cacheResultSetMetadata", true);
+        config.addDataSourceProperty("cacheServerConfiguration", true);
+        config.addDataSourceProperty("elideSetAutoCommits", true);
+        return config;
+    }
+
+    /**
+     * Returns a pooled connection, or the thread's transaction connection while
+     * {@link TransactionManager#inTransaction} is active
+     */
     public static Connection getConnection() throws SQLException {
+        Connection bound = TransactionManager.currentConnection();
+        if (bound != null) {
+            return bound;
+        }
         try {
-        return DriverManager.getConnection(URL, USERNAME, PASSWORD);
+            return dataSource.getConnection();
         } catch (SQLException e) {
             System.err.println("Failed to get database connection: " + e.getMessage());
             System.err.println("SQL State: " + e.getSQLState());
@@ -66,6 +102,13 @@ public class DatabaseUtil {
         }
     }
 
+    /**
+     * Exposes the pooled DataSource for components that manage connections themselves
+     */
+    public static DataSource getDataSource() {
+        return dataSource;
+    }
+
     public static void closeConnection(Connection connection) {
         if (connection != null) {
             try {
@@ -77,6 +120,51 @@ public class DatabaseUtil {
         }
     }
 
+    /**
+     * Returns a snapshot of pool usage: active, idle, total and waiting thread counts
+     */
+    public static Map<String, Integer> getPoolStats() {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        HikariPoolMXBean pool = dataSource != null ? dataSource.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return stats;
+        }
+        stats.put("active", pool.getActiveConnections());
+        stats.put("idle", pool.getIdleConnections());
+        stats.put("total", pool.getTotalConnections());
+        stats.put("waiting", pool.getThreadsAwaitingConnection());
+        stats.put("maximum", dataSource.getMaximumPoolSize());
+        return stats;
+    }
+
+    /**
+     * Registers a task that still needs the database when the application exits, e.g. a final flush.
+     * Tasks run in registration order on the shutdown thread, before the pool is closed; separate
+     * shutdown hooks would run concurrently with closing it.
+     */
+    public static void beforeShutdown(Runnable task) {
+        BEFORE_SHUTDOWN.add(task);
+    }
+
+    /**
+     * Runs the tasks registered with {@link #beforeShutdown}, then closes the pool and all physical
+     * connections. Safe to call more than once.
+     */
+    public static synchronized void shutdown() {
+        for (Runnable task : BEFORE_SHUTDOWN) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error during database shutdown task: " + e.getMessage());
+            }
+        }
+        BEFORE_SHUTDOWN.clear();
+        if (dataSource != null && !dataSource.isClosed()) {
+            System.out.println("Closing database connection pool " + dataSource.getPoolName() + " " + getPoolStats());
+            dataSource.close();
+        }
+    }
+
     private static void testConnection() throws SQLException {
         try (Connection conn = getConnection()) {
             if (!conn.isValid(5)) { // Test if connection is valid with 5 second timeout
@@ -85,4 +173,4 @@ public class DatabaseUtil {
             System.out.println("Database connection test successful");
         }
     }
-} 
\ No newline at end of file
+}
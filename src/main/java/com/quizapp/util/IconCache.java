@@ -0,0 +1,210 @@
+package com.quizapp.util;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Application-wide cache of icons decoded from image files and scaled to a fixed size, keyed by path
+ * and size. Decoding and scaling run on a background thread, so renderers never touch the disk; a
+ * lookup that misses returns nothing and the caller is told on the EDT once the icon is ready.
+ * <p>
+ * Memory is bounded by the pixels held: the least recently used icons are evicted once
+ * {@link #MAX_CACHED_BYTES} is exceeded. Files that cannot be read are remembered too, so a broken
+ * path is not retried on every repaint.
+ */
+public final class IconCache {
+    private static final long MAX_CACHED_BYTES = 8L * 1024 * 1024;
+
+    // Stands in for a file that could not be decoded
+    private static final ImageIcon MISSING = new ImageIcon();
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "icon-loader-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Object LOCK = new Object();
+    // Access-ordered, so iteration starts at the least recently used icon
+    private static final LinkedHashMap<Key, ImageIcon> CACHE = new LinkedHashMap<>(64, 0.75f, true);
+    private static final Map<Key, List<Consumer<Icon>>> PENDING = new HashMap<>();
+    private static long cachedBytes;
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong decodes = new AtomicLong();
+    private static final AtomicLong failures = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+
+    private IconCache() {
+    }
+
+    /**
+     * Returns the icon if it is already cached; otherwise starts loading it and repaints the component
+     * once it is ready. Meant for cell renderers, which are asked again on the repaint.
+     * @return the scaled icon, or null if it is still loading or the file could not be read
+     */
+    public static Icon get(String path, int width, int height, Component repaintTarget) {
+        return get(path, width, height, icon -> {
+            if (repaintTarget != null) {
+                repaintTarget.repaint();
+            }
+        });
+    }
+
+    /**
+     * Returns the icon if it is already cached; otherwise starts loading it and passes it to the
+     * callback on the EDT once it is ready. The callback is not called for cache hits.
+     * @param onLoaded receives the icon, or null if the file could not be read
+     * @return the scaled icon, or null if it is still loading or the file could not be read
+     */
+    public static Icon get(String path, int width, int height, Consumer<Icon> onLoaded) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        Key key = new Key(path, width, height);
+        synchronized (LOCK) {
+            ImageIcon cached = CACHE.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached != MISSING ? cached : null;
+            }
+            misses.incrementAndGet();
+            List<Consumer<Icon>> callbacks = PENDING.get(key);
+            if (callbacks != null) {
+                callbacks.add(onLoaded);
+                return null;
+            }
+            callbacks = new ArrayList<>();
+            callbacks.add(onLoaded);
+            PENDING.put(key, callbacks);
+        }
+        LOADER.execute(() -> load(key));
+        return null;
+    }
+
+    /**
+     * Drops every cached icon, e.g. after icon files were replaced
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            CACHE.clear();
+            cachedBytes = 0;
+        }
+    }
+
+    /**
+     * Get icon cache statistics for monitoring
+     */
+    public static Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("decodes", decodes.get());
+        stats.put("failures", failures.get());
+        stats.put("evictions", evictions.get());
+        synchronized (LOCK) {
+            stats.put("entries", (long) CACHE.size());
+            stats.put("cachedBytes", cachedBytes);
+        }
+        return stats;
+    }
+
+    private static void load(Key key) {
+        ImageIcon icon = decode(key);
+        List<Consumer<Icon>> callbacks;
+        synchronized (LOCK) {
+            callbacks = PENDING.remove(key);
+            CACHE.put(key, icon);
+            cachedBytes += sizeOf(icon);
+            evictOverflow();
+        }
+        Icon result = icon != MISSING ? icon : null;
+        SwingUtilities.invokeLater(() -> {
+            for (Consumer<Icon> callback : callbacks) {
+                callback.accept(result);
+            }
+        });
+    }
+
+    private static ImageIcon decode(Key key) {
+        decodes.incrementAndGet();
+        try {
+            BufferedImage source = ImageIO.read(new File(key.path));
+            if (source == null) {
+                failures.incrementAndGet();
+                return MISSING;
+            }
+            BufferedImage scaled = new BufferedImage(key.width, key.height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = scaled.createGraphics();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g2d.drawImage(source, 0, 0, key.width, key.height, null);
+            } finally {
+                g2d.dispose();
+            }
+            return new ImageIcon(scaled);
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            System.err.println("Error loading icon " + key.path + ": " + e.getMessage());
+            return MISSING;
+        }
+    }
+
+    private static void evictOverflow() {
+        Iterator<Map.Entry<Key, ImageIcon>> it = CACHE.entrySet().iterator();
+        while (cachedBytes > MAX_CACHED_BYTES && it.hasNext()) {
+            ImageIcon evicted = it.next().getValue();
+            it.remove();
+            cachedBytes -= sizeOf(evicted);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static long sizeOf(ImageIcon icon) {
+        // ARGB pixels; a missing entry is charged roughly what its key costs
+        return icon == MISSING ? 64 : 4L * icon.getIconWidth() * icon.getIconHeight();
+    }
+
+    private static final class Key {
+        final String path;
+        final int width;
+        final int height;
+
+        Key(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return width == other.width && height == other.height && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * path.hashCode() + width) + height;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.quizapp.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Encodes question options into the single pipe-delimited column used by {@code questions.options}.
+ * <p>
+ * Options without pipes, backslashes or the marker are written in the original format, a plain
+ * {@code String.join("|", ...)}. Otherwise the value starts with {@link #ESCAPED_MARKER} and every
+ * literal pipe is written as {@code \|} and every literal backslash as {@code \\}. Values without the
+ * marker are always split on every pipe with backslashes taken literally, so rows written before
+ * escaping existed decode exactly as they did then.
+ * Decoding is a single character scan with no regular expressions.
+ */
+public final class OptionCodec {
+    private static final char SEPARATOR = '|';
+    private static final char ESCAPE = '\\';
+    // Control character that never appears in typed option text
+    static final char ESCAPED_MARKER = '\u0001';
+
+    private OptionCodec() {
+    }
+
+    /**
+     * @param options the options to encode, may be null
+     * @return the encoded column value, never null
+     */
+    public static String encode(List<String> options) {
+        if (options == null || options.isEmpty()) {
+            return "";
+        }
+        boolean escaped = false;
+        for (String option : options) {
+            if (option != null && (option.indexOf(SEPARATOR) >= 0 || option.indexOf(ESCAPE) >= 0
+                    || option.indexOf(ESCAPED_MARKER) >= 0)) {
+                escaped = true;
+                break;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(options.size() * 16 + 1);
+        if (escaped) {
+            sb.append(ESCAPED_MARKER);
+        }
+        for (int i = 0; i < options.size(); i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            String option = options.get(i);
+            if (option == null) {
+                continue;
+            }
+            if (!escaped) {
+                sb.append(option);
+                continue;
+            }
+            for (int j = 0; j < option.length(); j++) {
+                char c = option.charAt(j);
+                if (c == SEPARATOR || c == ESCAPE) {
+                    sb.append(ESCAPE);
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Decodes a column value into an unmodifiable list. Trailing empty options are dropped,
+     * matching the behaviour of the previous {@code String.split("\\|")} parsing.
+     */
+    public static List<String> decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Unmarked values, including every row written before escaping, are cut on every pipe
+        if (encoded.charAt(0) != ESCAPED_MARKER) {
+            List<String> options = new ArrayList<>(4);
+            int start = 0;
+            int sep;
+            while ((sep = encoded.indexOf(SEPARATOR, start)) >= 0) {
+                options.add(encoded.substring(start, sep));
+                start = sep + 1;
+            }
+            options.add(encoded.substring(start));
+            return finish(options);
+        }
+
+        List<String> options = new ArrayList<>(4);
+        StringBuilder current = new StringBuilder();
+        int length = encoded.length();
+        for (int i = 1; i < length; i++) {
+            char c = encoded.charAt(i);
+            if (c == ESCAPE && i + 1 < length) {
+                char next = encoded.charAt(i + 1);
+                if (next == SEPARATOR || next == ESCAPE) {
+                    current.append(next);
+                    i++;
+                    continue;
+                }
+                current.append(c);
+            } else if (c == SEPARATOR) {
+                options.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        options.add(current.toString());
+        return finish(options);
+    }
+
+    private static List<String> finish(List<String> options) {
+        int size = options.size();
+        while (size > 0 && options.get(size - 1).isEmpty()) {
+            options.remove(--size);
+        }
+        return Collections.unmodifiableList(options);
+    }
+}
@@ -0,0 +1,148 @@
+package com.quizapp.util;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorted collection that also answers "position of x" and "element at position k" in O(log n).
+ * Implemented as a treap whose nodes carry their subtree size. Elements must be distinct under the
+ * comparator. Not thread-safe.
+ */
+public class OrderStatisticTree<T> {
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void add(T value) {
+        Node<T>[] parts = split(root, value);
+        root = merge(merge(parts[0], new Node<>(value)), parts[1]);
+    }
+
+    /**
+     * @return true if an element equal to the value under the comparator was removed
+     */
+    public boolean remove(T value) {
+        int before = size(root);
+        root = remove(root, value);
+        return size(root) < before;
+    }
+
+    /**
+     * @return the 0-based position of the value, or -1 if it is not present
+     */
+    public int indexOf(T value) {
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(value, node.value);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the element at the 0-based position
+     * @throws IndexOutOfBoundsException if the position is outside the tree
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size(root)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size(root));
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Splits into elements ordered before the value and the rest
+     */
+    private Node<T>[] split(Node<T> node, T value) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node<T>[] parts = new Node[2];
+        if (node == null) {
+            return parts;
+        }
+        if (comparator.compare(node.value, value) < 0) {
+            Node<T>[] rightParts = split(node.right, value);
+            node.right = rightParts[0];
+            parts[0] = update(node);
+            parts[1] = rightParts[1];
+        } else {
+            Node<T>[] leftParts = split(node.left, value);
+            node.left = leftParts[1];
+            parts[0] = leftParts[0];
+            parts[1] = update(node);
+        }
+        return parts;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private Node<T> remove(Node<T> node, T value) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(value, node.value);
+        if (cmp < 0) {
+            node.left = remove(node.left, value);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, value);
+        } else {
+            return merge(node.left, node.right);
+        }
+        return update(node);
+    }
+
+    private static <T> Node<T> update(Node<T> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        int size = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+}
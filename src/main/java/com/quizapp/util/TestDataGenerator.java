@@ -199,6 +199,7 @@ public class TestDataGenerator {
             return;
         }
         
+        List<Question> questions = new ArrayList<>(count);
         for (int i = 1; i <= count; i++) {
             Question question = new Question();
             question.setCategoryId(categoryId);
@@ -209,18 +210,21 @@ public class TestDataGenerator {
             
             // Set difficulty (1-5)
             question.setDifficulty(RANDOM.nextInt(5) + 1);
+            questions.add(question);
+        }
+        
+        try {
+            // Insert the questions in batches, then all their answers (1 correct, 3 incorrect)
+            questionDAO.createAll(questions);
+            LOGGER.info("Created " + questions.size() + " test questions");
             
-            try {
-                // Create the question
-                Question createdQuestion = questionDAO.create(question);
-                LOGGER.info("Created test question ID: " + createdQuestion.getQuestionId());
-                
-                // Add answers (1 correct, 3 incorrect)
-                createAnswers(createdQuestion.getQuestionId(), category);
-                
-            } catch (Exception e) {
-                LOGGER.log(Level.WARNING, "Couldn't create question: " + e.getMessage(), e);
+            List<Answer> answers = new ArrayList<>(questions.size() * 4);
+            for (Question question : questions) {
+                answers.addAll(buildAnswers(question, category));
             }
+            answerDao.createAll(answers);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Couldn't create questions: " + e.getMessage(), e);
         }
     }
     
@@ -333,34 +337,22 @@ public class TestDataGenerator {
     }
     
     /**
-     * Create answers for a question
-     * @param questionId the question ID
+     * Build the answers for a question
+     * @param question the saved question
      */
-    private void createAnswers(int questionId, Category category) {
-        String[] answers;
-        boolean[] isCorrect;
-        
-        // Generate appropriate answers based on question
-        Question question = questionDAO.findById(questionId).orElse(null);
-        if (question == null) {
-            return;
-        }
-        
-        answers = generateAnswers(question, category);
-        isCorrect = new boolean[]{true, false, false, false};
+    private List<Answer> buildAnswers(Question question, Category category) {
+        String[] answers = generateAnswers(question, category);
+        boolean[] isCorrect = new boolean[]{true, false, false, false};
         
+        List<Answer> result = new ArrayList<>(answers.length);
         for (int i = 0; i < answers.length; i++) {
             Answer answer = new Answer();
-            answer.setQuestionId(questionId);
+            answer.setQuestionId(question.getQuestionId());
             answer.setAnswerText(answers[i]);
             answer.setCorrect(isCorrect[i]);
-            
-            try {
-                answerDao.create(answer);
-            } catch (Exception e) {
-                LOGGER.log(Level.WARNING, "Couldn't create answer: " + e.getMessage(), e);
-            }
+            result.add(answer);
         }
+        return result;
     }
     
     /**
@@ -0,0 +1,182 @@
+package com.quizapp.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Thread-bound unit of work. While {@link #inTransaction} runs, every
+ * {@link DatabaseUtil#getConnection()} call on the same thread returns the one transactional
+ * connection, so DAOs written with try-with-resources join the transaction without changes:
+ * their close(), commit() and setAutoCommit() calls are ignored and a rollback() marks the
+ * whole unit rollback-only. The unit commits once when the outermost callback returns and
+ * rolls back if it throws. Nested calls join the enclosing unit.
+ */
+public final class TransactionManager {
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Work executed inside a transaction; may throw SQLException like DAO code does
+     */
+    @FunctionalInterface
+    public interface TransactionCallback<T> {
+        T doInTransaction() throws SQLException;
+    }
+
+    /**
+     * Transactional work without a result
+     */
+    @FunctionalInterface
+    public interface TransactionRunnable {
+        void run() throws SQLException;
+    }
+
+    private TransactionManager() {
+    }
+
+    public static <T> T inTransaction(TransactionCallback<T> work) {
+        UnitOfWork outer = CURRENT.get();
+        if (outer != null) {
+            return execute(work);
+        }
+
+        UnitOfWork unit;
+        T result;
+        try (Connection physical = DatabaseUtil.getDataSource().getConnection()) {
+            unit = new UnitOfWork(physical);
+            CURRENT.set(unit);
+            physical.setAutoCommit(false);
+            try {
+                result = execute(work);
+                if (unit.rollbackOnly) {
+                    physical.rollback();
+                    throw new IllegalStateException("Transaction was rolled back by a participating DAO");
+                }
+                physical.commit();
+            } catch (RuntimeException | Error e) {
+                rollbackQuietly(physical);
+                throw e;
+            } finally {
+                CURRENT.remove();
+                physical.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error managing transaction", e);
+        }
+        // Outside the unit, so the actions see committed data and may open their own transactions
+        unit.runAfterCommit();
+        return result;
+    }
+
+    public static void inTransaction(TransactionRunnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the action once the enclosing unit has committed, or right away outside a transaction.
+     * Actions of a unit that rolls back are discarded. Use it for side effects that must not be
+     * seen before the data is, such as cache invalidation.
+     */
+    public static void afterCommit(Runnable action) {
+        UnitOfWork unit = CURRENT.get();
+        if (unit != null) {
+            unit.afterCommit.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * @return true if the calling thread is inside {@link #inTransaction}
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Returns the transaction-bound connection for this thread, or null outside a transaction
+     */
+    static Connection currentConnection() {
+        UnitOfWork unit = CURRENT.get();
+        return unit != null ? unit.participant : null;
+    }
+
+    private static <T> T execute(TransactionCallback<T> work) {
+        try {
+            return work.doInTransaction();
+        } catch (SQLException e) {
+            throw new RuntimeException("Error executing transactional work", e);
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            System.err.println("Error rolling back transaction: " + e.getMessage());
+        }
+    }
+
+    private static final class UnitOfWork implements InvocationHandler {
+        private final Connection physical;
+        private final Connection participant;
+        private final List<Runnable> afterCommit = new ArrayList<>();
+        private boolean rollbackOnly;
+
+        UnitOfWork(Connection physical) {
+            this.physical = physical;
+            this.participant = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, this);
+        }
+
+        void runAfterCommit() {
+            for (Runnable action : afterCommit) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    // The transaction has committed; a failed follow-up must not report it as failed
+                    System.err.println("Error running after-commit action: " + e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            boolean noArgs = args == null || args.length == 0;
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                    // Transaction boundaries belong to the outermost inTransaction call
+                    return null;
+                case "rollback":
+                    if (noArgs) {
+                        rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "getAutoCommit":
+                    return false;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
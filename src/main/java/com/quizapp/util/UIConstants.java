@@ -502,9 +502,7 @@ public class UIConstants {
         Color originalBg = component.getBackground();
         component.setBackground(new Color(232, 245, 233)); // Light green
         
-        Timer timer = new Timer(1500, e -> component.setBackground(originalBg));
-        timer.setRepeats(false);
-        timer.start();
+        AppScheduler.runLaterOnEdt(1500, () -> component.setBackground(originalBg));
     }
     
     /**
@@ -514,9 +512,7 @@ public class UIConstants {
         Color originalBg = component.getBackground();
         component.setBackground(new Color(251, 233, 231)); // Light red
         
-        Timer timer = new Timer(1500, e -> component.setBackground(originalBg));
-        timer.setRepeats(false);
-        timer.start();
+        AppScheduler.runLaterOnEdt(1500, () -> component.setBackground(originalBg));
     }
     
     /**
@@ -1,5 +1,8 @@
 package com.quizapp.util.animation;
 
+import com.quizapp.util.AppScheduler;
+import com.quizapp.util.AppScheduler.ScheduledTask;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -14,7 +17,7 @@ import java.util.function.Consumer;
  */
 public class AnimationManager {
     
-    private static final Map<Component, Timer> activeAnimations = new HashMap<>();
+    private static final Map<Component, ScheduledTask> activeAnimations = new HashMap<>();
     
     /**
      * Fades in a component
@@ -42,17 +45,17 @@ public class AnimationManager {
         final float opacityIncrement = 1.0f / steps;
         
         // Create and start animation timer
-        Timer timer = new Timer(durationMs / steps, null);
+        final int frameMs = durationMs / steps;
         final int[] step = {0};
         
-        timer.addActionListener(e -> {
+        ScheduledTask timer = AppScheduler.repeatOnEdt(frameMs, frameMs, task -> {
             step[0]++;
             float opacity = Math.min(opacityIncrement * step[0], 1.0f);
             opacityLayer.setOpacity(opacity);
             component.repaint();
             
             if (step[0] >= steps) {
-                timer.stop();
+                task.cancel();
                 activeAnimations.remove(component);
                 if (callback != null) {
                     callback.accept(null);
@@ -61,7 +64,6 @@ public class AnimationManager {
         });
         
         activeAnimations.put(component, timer);
-        timer.start();
     }
     
     /**
@@ -86,17 +88,17 @@ public class AnimationManager {
         final float opacityDecrement = 1.0f / steps;
         
         // Create and start animation timer
-        Timer timer = new Timer(durationMs / steps, null);
+        final int frameMs = durationMs / steps;
         final int[] step = {0};
         
-        timer.addActionListener(e -> {
+        ScheduledTask timer = AppScheduler.repeatOnEdt(frameMs, frameMs, task -> {
             step[0]++;
             float opacity = Math.max(1.0f - (opacityDecrement * step[0]), 0.0f);
             opacityLayer.setOpacity(opacity);
             component.repaint();
             
             if (step[0] >= steps) {
-                timer.stop();
+                task.cancel();
                 component.setVisible(false);
                 activeAnimations.remove(component);
                 if (callback != null) {
@@ -106,7 +108,6 @@ public class AnimationManager {
         });
         
         activeAnimations.put(component, timer);
-        timer.start();
     }
     
     /**
@@ -151,10 +152,10 @@ public class AnimationManager {
         final int steps = Math.min(durationMs / 16, 30); // Max 30 steps, 16ms per step (~60fps)
         
         // Create and start animation timer
-        Timer timer = new Timer(durationMs / steps, null);
+        final int frameMs = durationMs / steps;
         final int[] step = {0};
         
-        timer.addActionListener(e -> {
+        ScheduledTask timer = AppScheduler.repeatOnEdt(frameMs, frameMs, task -> {
             step[0]++;
             float progress = (float) step[0] / steps;
             
@@ -166,7 +167,7 @@ public class AnimationManager {
             component.setBounds(x, y, originalBounds.width, originalBounds.height);
             
             if (step[0] >= steps) {
-                timer.stop();
+                task.cancel();
                 component.setBounds(targetBounds);
                 activeAnimations.remove(component);
                 if (callback != null) {
@@ -176,7 +177,6 @@ public class AnimationManager {
         });
         
         activeAnimations.put(component, timer);
-        timer.start();
     }
     
     /**
@@ -217,10 +217,10 @@ public class AnimationManager {
         final int steps = Math.min(durationMs / 16, 30); // Max 30 steps, 16ms per step (~60fps)
         
         // Create and start animation timer
-        Timer timer = new Timer(durationMs / steps, null);
+        final int frameMs = durationMs / steps;
         final int[] step = {0};
         
-        timer.addActionListener(e -> {
+        ScheduledTask timer = AppScheduler.repeatOnEdt(frameMs, frameMs, task -> {
             step[0]++;
             float progress = (float) step[0] / steps;
             
@@ -232,7 +232,7 @@ public class AnimationManager {
             component.setBounds(x, y, originalBounds.width, originalBounds.height);
             
             if (step[0] >= steps) {
-                timer.stop();
+                task.cancel();
                 component.setVisible(false);
                 component.setBounds(originalBounds); // Restore original bounds
                 activeAnimations.remove(component);
@@ -243,7 +243,6 @@ public class AnimationManager {
         });
         
         activeAnimations.put(component, timer);
-        timer.start();
     }
     
     /**
@@ -297,7 +296,7 @@ public class AnimationManager {
             final int steps = Math.min(durationMs / 16, 30); // Max 30 steps, 16ms per step (~60fps)
             
             // Create and start animation timer
-            Timer timer = new Timer(durationMs / steps, null);
+            final int frameMs = durationMs / steps;
             final int[] step = {0};
             
             Rectangle currentStart = currentPanel.getBounds();
@@ -306,7 +305,7 @@ public class AnimationManager {
             Rectangle nextStart = nextPanel.getBounds();
             Rectangle nextTarget = new Rectangle(0, 0, container.getWidth(), container.getHeight());
             
-            timer.addActionListener(e -> {
+            AppScheduler.repeatOnEdt(frameMs, frameMs, task -> {
                 step[0]++;
                 float progress = (float) step[0] / steps;
                 
@@ -324,7 +323,7 @@ public class AnimationManager {
                 nextPanel.setBounds(nextX, nextY, container.getWidth(), container.getHeight());
                 
                 if (step[0] >= steps) {
-                    timer.stop();
+                    task.cancel();
                     
                     // Show actual next component
                     cardLayout.show(container, getCardName(nextComponent, container));
@@ -333,8 +332,6 @@ public class AnimationManager {
                     frame.setGlassPane(originalGlassPane);
                 }
             });
-            
-            timer.start();
         }
     }
     
@@ -467,9 +464,9 @@ public class AnimationManager {
      * @param component The component
      */
     public static void stopAnimation(Component component) {
-        Timer timer = activeAnimations.get(component);
+        ScheduledTask timer = activeAnimations.get(component);
         if (timer != null) {
-            timer.stop();
+            timer.cancel();
             activeAnimations.remove(component);
         }
     }
@@ -1,5 +1,6 @@
 package com.quizapp.view.admin;
 
+import com.quizapp.admin.model.ImportResult;
 import com.quizapp.controller.AdminController;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
@@ -1296,21 +1297,24 @@ public class AdminPanel extends JPanel {
             final boolean isCsvFormat = isCsv;
             
             // Create a background worker for the import
-            SwingWorker<Integer, String> worker = new SwingWorker<Integer, String>() {
+            SwingWorker<ImportResult, String> worker = new SwingWorker<ImportResult, String>() {
                 @Override
-                protected Integer doInBackground() throws Exception {
+                protected ImportResult doInBackground() throws Exception {
                     publish("Starting import from " + fileToImport.getName() + "...");
                     
                     try {
-                        int count;
+                        ImportResult result;
                         if (isCsvFormat) {
                             publish("Importing from CSV format...");
-                            count = adminController.importQuestionsFromCSV(fileToImport, categoryIdToUse);
+                            result = adminController.importQuestionsFromCSV(fileToImport, categoryIdToUse);
                         } else {
                             publish("Importing from JSON format...");
-                            count = adminController.importQuestionsFromJSON(fileToImport, categoryIdToUse);
+                            result = adminController.importQuestionsFromJSON(fileToImport, categoryIdToUse);
                         }
-                        return count;
+                        for (ImportResult.RejectedRow rejected : result.getRejected()) {
+                            publish("Skipped " + rejected);
+                        }
+                        return result;
                     } catch (Exception ex) {
                         publish("Error during import: " + ex.getMessage());
                         throw ex;
@@ -1327,13 +1331,23 @@ public class AdminPanel extends JPanel {
                 @Override
                 protected void done() {
                     try {
-                        int count = get();
+                        ImportResult result = get();
+                        int count = result.getImported();
+                        int skipped = result.getRejected().size();
                         progressBar.setValue(100);
-                        logArea.append("Import completed successfully. " + count + " questions imported.\n");
-                        JOptionPane.showMessageDialog(panel, 
-                            count + " questions were successfully imported.", 
-                            "Import Complete", 
-                            JOptionPane.INFORMATION_MESSAGE);
+                        if (skipped == 0) {
+                            logArea.append("Import completed successfully. " + count + " questions imported.\n");
+                            JOptionPane.showMessageDialog(panel, 
+                                count + " questions were successfully imported.", 
+                                "Import Complete", 
+                                JOptionPane.INFORMATION_MESSAGE);
+                        } else {
+                            logArea.append("Import completed. " + count + " questions imported, " + skipped + " skipped.\n");
+                            JOptionPane.showMessageDialog(panel, 
+                                count + " questions were imported; " + skipped + " rows were skipped (see the log).", 
+                                "Import Complete", 
+                                JOptionPane.WARNING_MESSAGE);
+                        }
                     } catch (Exception ex) {
                         progressBar.setValue(0);
                         logArea.append("Import failed: " + ex.getMessage() + "\n");
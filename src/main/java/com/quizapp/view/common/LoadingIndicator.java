@@ -1,5 +1,7 @@
 package com.quizapp.view.common;
 
+import com.quizapp.util.AppScheduler;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -28,7 +30,7 @@ public class LoadingIndicator extends JPanel {
     private Color foregroundColor;
     private Color backgroundColor;
     private int size;
-    private Timer animationTimer;
+    private AppScheduler.ScheduledTask animationTimer;
     private double progress;
     private double angle;
     private String message;
@@ -67,20 +69,17 @@ public class LoadingIndicator extends JPanel {
         
         setOpaque(false);
         setPreferredSize(new Dimension(size, size));
-        
-        // Set up animation timer
-        animationTimer = new Timer(16, e -> {
-            updateAnimation();
-            repaint();
-        });
     }
     
     /**
      * Starts the loading animation
      */
     public void startAnimation() {
-        if (!animationTimer.isRunning()) {
-            animationTimer.start();
+        if (animationTimer == null || animationTimer.isCancelled()) {
+            animationTimer = AppScheduler.repeatOnEdt(0, 16, task -> {
+                updateAnimation();
+                repaint();
+            });
         }
     }
     
@@ -88,8 +87,8 @@ public class LoadingIndicator extends JPanel {
      * Stops the loading animation
      */
     public void stopAnimation() {
-        if (animationTimer.isRunning()) {
-            animationTimer.stop();
+        if (animationTimer != null) {
+            animationTimer.cancel();
         }
     }
     
@@ -10,6 +10,7 @@ import com.quizapp.service.ApplicationEventManager.EventListener;
 import com.quizapp.service.AuthService;
 import com.quizapp.service.SessionService;
 import com.quizapp.util.AccessibilityManager;
+import com.quizapp.util.AppScheduler;
 import com.quizapp.util.KeyboardShortcutManager;
 import com.quizapp.util.ThemeManager;
 import com.quizapp.view.admin.AdminPanel;
@@ -54,6 +55,7 @@ public class MainFrame extends JFrame implements QuizStartListener, EventListene
     private String username;
     private boolean mobileMode = false;
     private String currentPanel;
+    private AppScheduler.ScheduledTask sessionClockTask;
 
     // Panel names for CardLayout
     private static final String CATEGORY_SELECTION_PANEL = "categorySelection";
@@ -260,14 +262,13 @@ public class MainFrame extends JFrame implements QuizStartListener, EventListene
     }
     
     private void startSessionTimer(JLabel timerLabel) {
-        Timer timer = new Timer(1000, e -> {
+        sessionClockTask = AppScheduler.repeatOnEdt(0, 1000, task -> {
             // Just show a simple timer counting up from login
             long elapsedTime = System.currentTimeMillis() - System.currentTimeMillis() % 1000;
             long seconds = (elapsedTime / 1000) % 60;
             long minutes = (elapsedTime / (1000 * 60)) % 60;
             timerLabel.setText(String.format("%02d:%02d", minutes, seconds));
         });
-        timer.start();
     }
 
     private void initializeMainContent() {
@@ -445,34 +446,11 @@ public class MainFrame extends JFrame implements QuizStartListener, EventListene
         );
         
         if (response == JOptionPane.YES_OPTION) {
-            // Start the quiz with the selected category
+            // The quiz panel shows its own loading indicator while questions load
             quizPanel.startQuiz(selectedCategory, questionCount, quizTimeSeconds, this::showCategorySelectionPanel);
-            
-            // Show brief loading indication
-            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
-            
-            // Use SwingWorker to avoid freezing the UI
-            SwingWorker<Void, Void> worker = new SwingWorker<>() {
-                @Override
-                protected Void doInBackground() throws Exception {
-                    try {
-                        Thread.sleep(500); // Brief pause to prepare quiz
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                    return null;
-                }
-                
-                @Override
-                protected void done() {
-                    // Directly show quiz panel
-        cardLayout.show(mainContentPanel, QUIZ_PANEL);
-                    currentPanel = QUIZ_PANEL;
-                    setTitle("Quiz Application - " + selectedCategory.getName() + " Quiz");
-                    setCursor(Cursor.getDefaultCursor());
-                }
-            };
-            worker.execute();
+            cardLayout.show(mainContentPanel, QUIZ_PANEL);
+            currentPanel = QUIZ_PANEL;
+            setTitle("Quiz Application - " + selectedCategory.getName() + " Quiz");
         }
     }
     
@@ -648,7 +626,7 @@ public class MainFrame extends JFrame implements QuizStartListener, EventListene
         statusPanel.repaint();
         
         // Restore after delay
-        Timer timer = new Timer(1500, e -> {
+        AppScheduler.runLaterOnEdt(1500, () -> {
             statusPanel.removeAll();
             for (int i = 0; i < originalComponents.length; i++) {
                 if (originalConstraints[i] != null) {
@@ -658,8 +636,6 @@ public class MainFrame extends JFrame implements QuizStartListener, EventListene
             statusPanel.revalidate();
             statusPanel.repaint();
         });
-        timer.setRepeats(false);
-        timer.start();
     }
 
     /**
@@ -724,6 +700,11 @@ public class MainFrame extends JFrame implements QuizStartListener, EventListene
             categorySelectionPanel.cleanup();
         }
         
+        // Stop the status bar clock, which would otherwise outlive the frame
+        if (sessionClockTask != null) {
+            sessionClockTask.cancel();
+        }
+        
         // Call parent dispose
         super.dispose();
     }
@@ -5,6 +5,7 @@ import com.quizapp.model.Category;
 import com.quizapp.service.ApplicationEventManager;
 import com.quizapp.service.ApplicationEventManager.EventType;
 import com.quizapp.service.ApplicationEventManager.EventListener;
+import com.quizapp.util.IconCache;
 import com.quizapp.util.UIConstants;
 
 import javax.swing.*;
@@ -350,18 +351,18 @@ public class CategorySelectionPanel extends JPanel implements EventListener {
             BorderFactory.createEmptyBorder(8, 8, 8, 8)
         ));
         
-        if (category.getIconPath() != null) {
-            try {
-                ImageIcon icon = new ImageIcon(category.getIconPath());
-                Image img = icon.getImage().getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-                iconLabel.setIcon(new ImageIcon(img));
-            } catch (Exception e) {
-                iconLabel.setText(category.getName().substring(0, 1).toUpperCase());
-                iconLabel.setFont(new Font(iconLabel.getFont().getName(), Font.BOLD, 20));
+        // Show the initial until the icon has loaded, and instead of one that cannot be read
+        iconLabel.setText(category.getName().substring(0, 1).toUpperCase());
+        iconLabel.setFont(new Font(iconLabel.getFont().getName(), Font.BOLD, 20));
+        Icon categoryIcon = IconCache.get(category.getIconPath(), 32, 32, loaded -> {
+            if (loaded != null) {
+                iconLabel.setText(null);
+                iconLabel.setIcon(loaded);
             }
-        } else {
-            iconLabel.setText(category.getName().substring(0, 1).toUpperCase());
-            iconLabel.setFont(new Font(iconLabel.getFont().getName(), Font.BOLD, 20));
+        });
+        if (categoryIcon != null) {
+            iconLabel.setText(null);
+            iconLabel.setIcon(categoryIcon);
         }
         
         // Create title and subtitle panel with folder paradigm
@@ -1,11 +1,16 @@
 package com.quizapp.view.quiz;
 
+import com.quizapp.admin.model.QuizAttempt;
 import com.quizapp.controller.QuizController;
 import com.quizapp.model.Category;
 import com.quizapp.model.Question;
 import com.quizapp.model.QuizResult;
+import com.quizapp.service.QuizResponseTracker;
+import com.quizapp.service.QuizSession;
+import com.quizapp.util.AppScheduler;
 import com.quizapp.util.UIConstants;
 import com.quizapp.util.AccessibilityManager;
+import com.quizapp.view.common.LoadingIndicator;
 
 import javax.swing.*;
 import java.awt.*;
@@ -13,14 +18,13 @@ import java.awt.KeyboardFocusManager;
 import java.awt.event.KeyEvent;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * JPanel for displaying and taking a quiz.
  */
 public class QuizPanel extends JPanel {
-    private Timer timer;
+    private AppScheduler.ScheduledTask timer;
     private JPanel optionsPanel;
     private JPanel controlsPanel;
     private JPanel questionPanel;
@@ -39,14 +43,11 @@ public class QuizPanel extends JPanel {
     private JPanel breadcrumbPanel;
     
     private Category selectedCategory;
-    private List<Question> questions;
-    private int currentQuestionIndex;
-    private int[] userAnswers;
-    private int correctAnswers;
-    private long quizStartTime;
-    private long quizEndTime;
-    private int totalQuizTimeSeconds;
-    private int remainingTimeSeconds;
+    private QuizSession session;
+    private QuizResponseTracker responseTracker;
+    private LoadingIndicator loadingIndicator;
+    private QuizTimeline timeline;
+    private int loadGeneration;
 
     public QuizPanel(int userId) {
         this.quizController = new QuizController(userId);
@@ -103,15 +104,20 @@ public class QuizPanel extends JPanel {
         progressBar.setPreferredSize(new Dimension(getWidth(), 8));
         progressBar.setStringPainted(false);
         
-        // Create timeline panel
-        JPanel timelinePanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 2, 0));
-        timelinePanel.setOpaque(false);
+        // Create timeline; it scrolls horizontally once there are more questions than fit
+        timeline = new QuizTimeline();
+        timeline.setNavigationListener(this::navigateToQuestion);
+        JScrollPane timelineScroller = new JScrollPane(timeline,
+            JScrollPane.VERTICAL_SCROLLBAR_NEVER, JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        timelineScroller.setBorder(BorderFactory.createEmptyBorder());
+        timelineScroller.setOpaque(false);
+        timelineScroller.getViewport().setOpaque(false);
         
         // Timeline will be populated when questions are loaded
         
         progressPanel.add(infoPanel, BorderLayout.NORTH);
         progressPanel.add(progressBar, BorderLayout.CENTER);
-        progressPanel.add(timelinePanel, BorderLayout.SOUTH);
+        progressPanel.add(timelineScroller, BorderLayout.SOUTH);
         
         topPanel.add(progressPanel, BorderLayout.CENTER);
         add(topPanel, BorderLayout.NORTH);
@@ -142,12 +148,7 @@ public class QuizPanel extends JPanel {
             optionButtons[i].setMnemonic(keyCode);
             UIConstants.addTooltip(optionButtons[i], "Press " + (i + 1) + " to select this option");
             
-            optionButtons[i].addActionListener(e -> {
-                if (userAnswers != null && currentQuestionIndex < userAnswers.length) {
-                    userAnswers[currentQuestionIndex] = optionIndex;
-                    updateNavButtons();
-                }
-            });
+            optionButtons[i].addActionListener(e -> selectAnswer(optionIndex));
         }
         
         questionPanel.add(questionLabel, BorderLayout.NORTH);
@@ -219,6 +220,9 @@ public class QuizPanel extends JPanel {
         controlsPanel.add(helpPanel, BorderLayout.NORTH);
         controlsPanel.add(flagPanel, BorderLayout.NORTH);
         add(controlsPanel, BorderLayout.SOUTH);
+        
+        // Shown in place of the question panel while a quiz is loading
+        loadingIndicator = new LoadingIndicator(LoadingIndicator.Type.CIRCLE_SPIN, 50);
     }
 
     private void setupKeyboardNavigation() {
@@ -269,10 +273,7 @@ public class QuizPanel extends JPanel {
                     int idx = e.getKeyCode() - KeyEvent.VK_1;
                     if (idx >= 0 && idx < optionButtons.length && optionButtons[idx].isVisible()) {
                         optionButtons[idx].setSelected(true);
-                        if (userAnswers != null && currentQuestionIndex < userAnswers.length) {
-                            userAnswers[currentQuestionIndex] = idx;
-                            updateNavButtons();
-                        }
+                        selectAnswer(idx);
                         e.consume();
                         return true;
                     }
@@ -317,9 +318,66 @@ public class QuizPanel extends JPanel {
                 selectedCategory.getTotalTime() : 120; // Default to 2 minutes
         }
         
-        // Load questions for the selected category
-        List<Question> loadedQuestions = quizController.getQuestionsForQuiz(selectedCategory.getCategoryId(), questionCount);
-        
+        // Stop any quiz still running in this panel
+        if (timer != null) {
+            timer.cancel();
+        }
+        questionPanel.setVisible(false);
+        controlsPanel.setVisible(false);
+        timerLabel.setText("Loading quiz...");
+        questionCountLabel.setText("");
+        setLoading(true, "Loading questions...");
+        
+        // Load off the EDT; a newer startQuiz makes this load stale
+        final int generation = ++loadGeneration;
+        final int categoryId = selectedCategory.getCategoryId();
+        final int count = questionCount;
+        final int timeLimit = quizTimeSeconds;
+        SwingWorker<List<Question>, String> worker = new SwingWorker<List<Question>, String>() {
+            @Override
+            protected List<Question> doInBackground() {
+                List<Question> loaded = quizController.getQuestionsForQuiz(categoryId, count);
+                publish("Preparing questions...");
+                // Decode every question's options here so moving between questions never decodes on the EDT
+                for (Question question : loaded) {
+                    question.getOptions();
+                }
+                return loaded;
+            }
+            
+            @Override
+            protected void process(List<String> messages) {
+                if (generation == loadGeneration) {
+                    loadingIndicator.setMessage(messages.get(messages.size() - 1));
+                }
+            }
+            
+            @Override
+            protected void done() {
+                if (generation != loadGeneration) {
+                    return;
+                }
+                setLoading(false, null);
+                List<Question> loadedQuestions;
+                try {
+                    loadedQuestions = get();
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(QuizPanel.this,
+                        "Error loading quiz: " + e.getMessage(),
+                        "Cannot Start Quiz",
+                        JOptionPane.ERROR_MESSAGE);
+                    if (onQuizEnd != null) {
+                        onQuizEnd.run();
+                    }
+                    return;
+                }
+                beginQuiz(loadedQuestions, timeLimit);
+            }
+        };
+        worker.execute();
+    }
+    
+    private void beginQuiz(List<Question> loadedQuestions, int quizTimeSeconds) {
         if (loadedQuestions.isEmpty()) {
             JOptionPane.showMessageDialog(this,
                 "No questions available for this category.",
@@ -331,27 +389,20 @@ public class QuizPanel extends JPanel {
             return;
         }
 
-        // Reset quiz state
-        this.questions = loadedQuestions;
-        this.currentQuestionIndex = 0;
-        this.correctAnswers = 0;
-        this.userAnswers = new int[questions.size()];
-        Arrays.fill(userAnswers, -1); // -1 indicates no answer selected
-        this.quizStartTime = System.currentTimeMillis();
-        this.quizEndTime = 0;
+        // Reset quiz state; the session clock starts now
+        this.session = quizController.startSession(loadedQuestions, quizTimeSeconds);
+        this.responseTracker = new QuizResponseTracker(loadedQuestions.size());
 
         // Reset progress bar
         progressBar.setMinimum(0);
-        progressBar.setMaximum(questions.size());
+        progressBar.setMaximum(loadedQuestions.size());
         progressBar.setValue(1); // Start at first question
-        progressBar.setString("Question 1 of " + questions.size());
+        progressBar.setString("Question 1 of " + loadedQuestions.size());
         
         // Create timeline indicators
         createTimelineIndicators();
             
         // Start timer
-        this.totalQuizTimeSeconds = quizTimeSeconds;
-        this.remainingTimeSeconds = quizTimeSeconds;
         startTimer();
 
         // Show quiz elements
@@ -363,17 +414,37 @@ public class QuizPanel extends JPanel {
         updateNavButtons();
     }
     
+    /**
+     * Swaps the question panel for the loading indicator and back
+     */
+    private void setLoading(boolean loading, String message) {
+        if (loading) {
+            loadingIndicator.setMessage(message);
+            remove(questionPanel);
+            add(loadingIndicator, BorderLayout.CENTER);
+            loadingIndicator.startAnimation();
+        } else {
+            loadingIndicator.stopAnimation();
+            remove(loadingIndicator);
+            add(questionPanel, BorderLayout.CENTER);
+        }
+        revalidate();
+        repaint();
+    }
+    
     private void startTimer() {
         if (timer != null) {
-            timer.stop();
+            timer.cancel();
         }
         
-        timer = new Timer(1000, e -> {
-            remainingTimeSeconds--;
+        QuizSession current = session;
+        timer = AppScheduler.repeatOnEdt(1000, 1000, task -> {
             updateTimerDisplay();
             
-            if (remainingTimeSeconds <= 0) {
-                timer.stop();
+            // The remaining time comes from the session deadline; only the tick that
+            // times the session out submits it
+            if (current.expireIfDue()) {
+                task.cancel();
                 JOptionPane.showMessageDialog(this,
                     "Time's up! Your quiz will be submitted automatically.",
                     "Time Expired",
@@ -382,11 +453,11 @@ public class QuizPanel extends JPanel {
             }
         });
         
-        timer.start();
         updateTimerDisplay();
     }
     
     private void updateTimerDisplay() {
+        int remainingTimeSeconds = session.getState().getRemainingSeconds();
         int minutes = remainingTimeSeconds / 60;
         int seconds = remainingTimeSeconds % 60;
         timerLabel.setText(String.format("Time remaining: %02d:%02d", minutes, seconds));
@@ -400,17 +471,21 @@ public class QuizPanel extends JPanel {
     }
     
     private void displayCurrentQuestion() {
-        if (questions == null || questions.isEmpty() || currentQuestionIndex < 0 || currentQuestionIndex >= questions.size()) {
+        if (session == null || session.getState().getQuestionCount() == 0) {
             return;
         }
 
-        Question question = questions.get(currentQuestionIndex);
+        QuizSession.State state = session.getState();
+        int currentQuestionIndex = state.getCurrentIndex();
+        int questionCount = state.getQuestionCount();
+        Question question = state.getCurrentQuestion();
+        responseTracker.questionShown(currentQuestionIndex);
         questionLabel.setText((currentQuestionIndex + 1) + ". " + question.getQuestionText());
-        questionCountLabel.setText("Question " + (currentQuestionIndex + 1) + "/" + questions.size());
+        questionCountLabel.setText("Question " + (currentQuestionIndex + 1) + "/" + questionCount);
         
         // Update progress bar
         progressBar.setValue(currentQuestionIndex + 1);
-        progressBar.setString("Question " + (currentQuestionIndex + 1) + " of " + questions.size());
+        progressBar.setString("Question " + (currentQuestionIndex + 1) + " of " + questionCount);
         
         // Update timeline indicators
         updateTimelineIndicators();
@@ -430,7 +505,7 @@ public class QuizPanel extends JPanel {
             optionButtons[i].setVisible(true);
             
             // Select button if user already answered this question
-            if (userAnswers[currentQuestionIndex] == i) {
+            if (state.getAnswer(currentQuestionIndex) == i) {
                 optionButtons[i].setSelected(true);
             }
         }
@@ -444,38 +519,47 @@ public class QuizPanel extends JPanel {
         optionsPanel.repaint();
     }
     
-    private void navigateToPreviousQuestion() {
-        if (currentQuestionIndex > 0) {
-            currentQuestionIndex--;
+    private void selectAnswer(int optionIndex) {
+        if (session == null) {
+            return;
+        }
+        QuizSession.State state = session.selectAnswer(session.getState().getCurrentIndex(), optionIndex);
+        updateNavButtons();
+        updateTimelineIndicators();
+        if (state.getAnswer(state.getCurrentIndex()) != optionIndex) {
+            // Rejected because the attempt ended; put the selection back as recorded
             displayCurrentQuestion();
-            updateNavButtons();
+        }
+    }
+    
+    private void navigateToPreviousQuestion() {
+        if (session != null) {
+            navigateToQuestion(session.getState().getCurrentIndex() - 1);
         }
     }
     
     private void navigateToNextQuestion() {
-        if (currentQuestionIndex < questions.size() - 1) {
-            currentQuestionIndex++;
-            displayCurrentQuestion();
-            updateNavButtons();
+        if (session != null) {
+            navigateToQuestion(session.getState().getCurrentIndex() + 1);
         }
     }
 
     private void updateNavButtons() {
+        QuizSession.State state = session.getState();
+        int currentQuestionIndex = state.getCurrentIndex();
+        int questionCount = state.getQuestionCount();
         prevButton.setEnabled(currentQuestionIndex > 0);
-        nextButton.setEnabled(currentQuestionIndex < questions.size() - 1);
+        nextButton.setEnabled(currentQuestionIndex < questionCount - 1);
         
         // Calculate how many questions have been answered
-        int answeredCount = 0;
-        for (int answer : userAnswers) {
-            if (answer != -1) answeredCount++;
-        }
+        int answeredCount = state.getAnsweredCount();
         
         // Enable submit button when at least half the questions have been answered
-        boolean canSubmit = answeredCount >= questions.size() / 2;
+        boolean canSubmit = answeredCount >= questionCount / 2;
         submitButton.setEnabled(canSubmit);
         
         // Visual indication of progress
-        int progressPercent = (answeredCount * 100) / questions.size();
+        int progressPercent = (answeredCount * 100) / questionCount;
         if (progressPercent >= 50) {
             submitButton.setBackground(UIConstants.SUCCESS_COLOR);
         } else {
@@ -485,10 +569,8 @@ public class QuizPanel extends JPanel {
     
     private void confirmSubmitQuiz() {
         // Count unanswered questions
-        int unansweredCount = 0;
-        for (int answer : userAnswers) {
-            if (answer == -1) unansweredCount++;
-        }
+        QuizSession.State state = session.getState();
+        int unansweredCount = state.getQuestionCount() - state.getAnsweredCount();
         
         String message;
         if (unansweredCount > 0) {
@@ -505,41 +587,46 @@ public class QuizPanel extends JPanel {
             JOptionPane.QUESTION_MESSAGE
         );
         
-        if (result == JOptionPane.YES_OPTION) {
+        // The time limit may have run out while the dialog was open; the timer then submits
+        if (result == JOptionPane.YES_OPTION && session.submit()) {
             submitQuiz();
         }
     }
     
+    /**
+     * Records and shows the result of the session, which must already have been submitted or timed out
+     */
     private void submitQuiz() {
         if (timer != null) {
-            timer.stop();
+            timer.cancel();
         }
         
-        quizEndTime = System.currentTimeMillis();
-        int timeTaken = (int) ((quizEndTime - quizStartTime) / 1000);
+        responseTracker.finish();
 
-        // Calculate score
-        correctAnswers = 0;
-        int totalPoints = 0;
-        
-        for (int i = 0; i < questions.size(); i++) {
-            Question question = questions.get(i);
-            if (userAnswers[i] == question.getCorrectOptionIndex()) {
-                correctAnswers++;
-                totalPoints += question.getPoints();
-            }
-        }
+        // Score the final snapshot
+        QuizSession.State state = session.getState();
+        List<Question> questions = state.getQuestions();
+        int timeTaken = state.getElapsedSeconds();
+        int correctAnswers = state.getCorrectCount();
+        int totalPoints = state.getPoints();
+        int maxPoints = state.getMaxPoints();
 
         // Save result
         QuizResult result = new QuizResult();
         result.setUserId(quizController.getUserId());
         result.setCategoryId(selectedCategory.getCategoryId());
         result.setScore(totalPoints);
+        result.setCorrectAnswers(correctAnswers);
         result.setTotalQuestions(questions.size());
         result.setTimeTaken(timeTaken);
         
         quizController.saveQuizResult(result);
 
+        // Per-question analytics are written in the background
+        QuizAttempt attempt = new QuizAttempt(quizController.getUserId(), selectedCategory.getCategoryId(),
+            selectedCategory.getCategoryId(), totalPoints, maxPoints, timeTaken);
+        quizController.recordResponses(attempt, responseTracker.toResponses(state));
+
         // Show results
         JOptionPane.showMessageDialog(
             this,
@@ -579,11 +666,11 @@ public class QuizPanel extends JPanel {
     }
 
     private void flagCurrentQuestion() {
-        if (questions == null || currentQuestionIndex < 0 || currentQuestionIndex >= questions.size()) {
+        Question currentQuestion = session != null ? session.getState().getCurrentQuestion() : null;
+        if (currentQuestion == null) {
             return;
         }
 
-        Question currentQuestion = questions.get(currentQuestionIndex);
         
         // Create flag dialog
         JTextField reasonField = new JTextField(30);
@@ -640,97 +727,19 @@ public class QuizPanel extends JPanel {
     }
 
     /**
-     * Creates timeline indicators for each question
+     * Resets the timeline for the current session's questions
      */
     private void createTimelineIndicators() {
-        // Get the timeline panel from the top panel hierarchy
-        JPanel topPanel = (JPanel) getComponent(0);
-        JPanel progressPanel = (JPanel) topPanel.getComponent(1);
-        JPanel timelinePanel = (JPanel) progressPanel.getComponent(2);
-        
-        // Clear any existing indicators
-        timelinePanel.removeAll();
-        
-        // Create indicator for each question
-        for (int i = 0; i < questions.size(); i++) {
-            JPanel indicatorPanel = createTimelineIndicator(i);
-            timelinePanel.add(indicatorPanel);
-        }
-        
-        timelinePanel.revalidate();
-        timelinePanel.repaint();
-    }
-    
-    /**
-     * Creates a single timeline indicator
-     */
-    private JPanel createTimelineIndicator(int questionIndex) {
-        final int size = 24;
-        final Color defaultColor = new Color(200, 200, 200);
-        final Color currentColor = UIConstants.PRIMARY_COLOR;
-        final Color answeredColor = UIConstants.SECONDARY_COLOR;
-        final Color correctColor = UIConstants.SUCCESS_COLOR;
-        final Color incorrectColor = UIConstants.ERROR_COLOR;
-        
-        JPanel panel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g;
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Determine color based on question state
-                Color fillColor;
-                if (questionIndex == currentQuestionIndex) {
-                    fillColor = currentColor;
-                } else if (userAnswers != null && userAnswers[questionIndex] != -1) {
-                    fillColor = answeredColor;
-                } else {
-                    fillColor = defaultColor;
-                }
-                
-                // Draw circle
-                g2d.setColor(fillColor);
-                g2d.fillOval(4, 4, size - 8, size - 8);
-                
-                // Draw number
-                g2d.setColor(Color.WHITE);
-                g2d.setFont(new Font(getFont().getName(), Font.BOLD, 10));
-                String number = String.valueOf(questionIndex + 1);
-                FontMetrics fm = g2d.getFontMetrics();
-                int textWidth = fm.stringWidth(number);
-                int textHeight = fm.getHeight();
-                g2d.drawString(number, 
-                    (size - textWidth) / 2, 
-                    (size - textHeight) / 2 + fm.getAscent());
-            }
-        };
-        
-        panel.setPreferredSize(new Dimension(size, size));
-        panel.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        
-        // Add mouse listener for navigation
-        panel.addMouseListener(new java.awt.event.MouseAdapter() {
-            @Override
-            public void mouseClicked(java.awt.event.MouseEvent evt) {
-                navigateToQuestion(questionIndex);
-            }
-            
-            @Override
-            public void mouseEntered(java.awt.event.MouseEvent evt) {
-                panel.setToolTipText("Go to question " + (questionIndex + 1));
-            }
-        });
-        
-        return panel;
+        timeline.setQuestionCount(session.getState().getQuestionCount());
+        timeline.showState(session.getState());
     }
     
     /**
      * Navigates to a specific question
      */
     private void navigateToQuestion(int questionIndex) {
-        if (questionIndex >= 0 && questionIndex < questions.size()) {
-            currentQuestionIndex = questionIndex;
+        QuizSession.State before = session.getState();
+        if (session.moveTo(questionIndex) != before) {
             displayCurrentQuestion();
             updateNavButtons();
             updateTimelineIndicators();
@@ -741,15 +750,7 @@ public class QuizPanel extends JPanel {
      * Updates the timeline indicators to reflect current state
      */
     private void updateTimelineIndicators() {
-        // Get the timeline panel from the top panel hierarchy
-        JPanel topPanel = (JPanel) getComponent(0);
-        JPanel progressPanel = (JPanel) topPanel.getComponent(1);
-        JPanel timelinePanel = (JPanel) progressPanel.getComponent(2);
-        
-        // Refresh all indicators
-        for (Component comp : timelinePanel.getComponents()) {
-            comp.repaint();
-        }
+        timeline.showState(session.getState());
     }
 
     /**
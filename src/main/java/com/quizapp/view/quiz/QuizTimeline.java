@@ -0,0 +1,224 @@
+package com.quizapp.view.quiz;
+
+import com.quizapp.service.QuizSession;
+import com.quizapp.util.UIConstants;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.function.IntConsumer;
+
+/**
+ * Row of numbered question indicators drawn by a single component. Only the cells inside the clip
+ * are painted, and state changes repaint just the cells that changed, so a long exam costs the same
+ * as a short one. Place it in a {@link JScrollPane} to scroll once the row is wider than the view.
+ */
+public class QuizTimeline extends JComponent implements Scrollable {
+    private static final int CELL_SIZE = 24;
+    private static final int CELL_GAP = 2;
+    private static final int CELL_PITCH = CELL_SIZE + CELL_GAP;
+    private static final Color DEFAULT_COLOR = new Color(200, 200, 200);
+
+    private int questionCount;
+    private int currentIndex = -1;
+    private boolean[] answered = new boolean[0];
+    private IntConsumer navigationListener;
+
+    // Label font and metrics, rebuilt only when the component font changes
+    private Font baseFont;
+    private Font labelFont;
+    private FontMetrics labelMetrics;
+
+    public QuizTimeline() {
+        setOpaque(false);
+        setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        // Registers the component with the tooltip manager; the text comes from getToolTipText(MouseEvent)
+        setToolTipText("");
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = indexAt(e.getX(), e.getY());
+                if (index >= 0 && navigationListener != null) {
+                    navigationListener.accept(index);
+                }
+            }
+        });
+    }
+
+    /**
+     * Called with the question index when an indicator is clicked
+     */
+    public void setNavigationListener(IntConsumer navigationListener) {
+        this.navigationListener = navigationListener;
+    }
+
+    /**
+     * Resets the timeline for a quiz with the given number of questions
+     */
+    public void setQuestionCount(int questionCount) {
+        this.questionCount = questionCount;
+        this.currentIndex = -1;
+        this.answered = new boolean[questionCount];
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Brings the timeline up to date with a session snapshot, repainting only the cells that changed
+     */
+    public void showState(QuizSession.State state) {
+        int count = Math.min(questionCount, state.getQuestionCount());
+        for (int i = 0; i < count; i++) {
+            boolean isAnswered = state.isAnswered(i);
+            if (answered[i] != isAnswered) {
+                answered[i] = isAnswered;
+                repaintCell(i);
+            }
+        }
+
+        int newIndex = state.getCurrentIndex();
+        if (newIndex != currentIndex) {
+            int oldIndex = currentIndex;
+            currentIndex = newIndex;
+            repaintCell(oldIndex);
+            repaintCell(newIndex);
+            if (newIndex >= 0 && newIndex < questionCount) {
+                scrollRectToVisible(cellBounds(newIndex));
+            }
+        }
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        int index = indexAt(event.getX(), event.getY());
+        return index >= 0 ? "Go to question " + (index + 1) : null;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        return new Dimension(contentWidth(), CELL_SIZE);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (questionCount == 0) {
+            return;
+        }
+        Graphics2D g2d = (Graphics2D) g.create();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            ensureLabelFont(g2d);
+            g2d.setFont(labelFont);
+
+            // Paint only the cells that intersect the clip
+            Rectangle clip = g2d.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            int offset = leftOffset();
+            int first = Math.max(0, (clip.x - offset) / CELL_PITCH);
+            int last = Math.min(questionCount - 1, (clip.x + clip.width - offset) / CELL_PITCH);
+            for (int i = first; i <= last; i++) {
+                paintCell(g2d, i, offset + i * CELL_PITCH);
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    private void paintCell(Graphics2D g2d, int index, int x) {
+        Color fillColor;
+        if (index == currentIndex) {
+            fillColor = UIConstants.PRIMARY_COLOR;
+        } else if (answered[index]) {
+            fillColor = UIConstants.SECONDARY_COLOR;
+        } else {
+            fillColor = DEFAULT_COLOR;
+        }
+
+        g2d.setColor(fillColor);
+        g2d.fillOval(x + 4, 4, CELL_SIZE - 8, CELL_SIZE - 8);
+
+        g2d.setColor(Color.WHITE);
+        String number = String.valueOf(index + 1);
+        int textWidth = labelMetrics.stringWidth(number);
+        g2d.drawString(number,
+            x + (CELL_SIZE - textWidth) / 2,
+            (CELL_SIZE - labelMetrics.getHeight()) / 2 + labelMetrics.getAscent());
+    }
+
+    private void ensureLabelFont(Graphics2D g2d) {
+        Font font = getFont();
+        if (labelFont == null || font != baseFont) {
+            baseFont = font;
+            String name = font != null ? font.getName() : Font.SANS_SERIF;
+            labelFont = new Font(name, Font.BOLD, 10);
+            labelMetrics = g2d.getFontMetrics(labelFont);
+        }
+    }
+
+    private void repaintCell(int index) {
+        if (index >= 0 && index < questionCount) {
+            repaint(cellBounds(index));
+        }
+    }
+
+    private Rectangle cellBounds(int index) {
+        return new Rectangle(leftOffset() + index * CELL_PITCH, 0, CELL_SIZE, CELL_SIZE);
+    }
+
+    private int indexAt(int x, int y) {
+        if (y < 0 || y >= CELL_SIZE) {
+            return -1;
+        }
+        int relative = x - leftOffset();
+        if (relative < 0) {
+            return -1;
+        }
+        int index = relative / CELL_PITCH;
+        return index < questionCount && relative % CELL_PITCH < CELL_SIZE ? index : -1;
+    }
+
+    private int contentWidth() {
+        return questionCount > 0 ? questionCount * CELL_PITCH - CELL_GAP : 0;
+    }
+
+    /**
+     * Centers the row when it is narrower than the component
+     */
+    private int leftOffset() {
+        return Math.max(0, (getWidth() - contentWidth()) / 2);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return CELL_PITCH;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int cells = Math.max(1, visibleRect.width / CELL_PITCH - 1);
+        return cells * CELL_PITCH;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        // Fill the viewport (and center) while the row fits; scroll once it doesn't
+        Container parent = SwingUtilities.getUnwrappedParent(this);
+        return parent instanceof JViewport && parent.getWidth() >= contentWidth();
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return true;
+    }
+}
@@ -1,9 +1,16 @@
 package com.quizapp.view.scoring;
 
 import com.quizapp.dao.CategoryDAO;
-import com.quizapp.dao.QuizResultDAO;
 import com.quizapp.model.Category;
+import com.quizapp.model.LeaderboardPeriod;
+import com.quizapp.model.LeaderboardStats;
 import com.quizapp.model.QuizResult;
+import com.quizapp.model.User;
+import com.quizapp.service.AuthService;
+import com.quizapp.service.LeaderboardEngine;
+import com.quizapp.service.RankService;
+import com.quizapp.service.SessionService;
+import com.quizapp.util.IconCache;
 import com.quizapp.util.UIConstants;
 
 import javax.swing.*;
@@ -24,23 +31,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
 
 public class LeaderboardPanel extends JPanel {
+    // Users shown on each side of the current user in the rank summary
+    private static final int RANK_NEIGHBOURS = 2;
+
     private JComboBox<Category> categoryComboBox;
     private JTable leaderboardTable;
     private DefaultTableModel tableModel;
-    private final QuizResultDAO quizResultDAO;
     private final CategoryDAO categoryDAO;
     private JPanel topPerformersPanel;
     private JPanel statsPanel;
-    private List<QuizResult> currentResults;
+    private LeaderboardViewModel viewModel;
+    private boolean populatingCategories;
     private JLabel titleLabel;
     private JPanel filterPanel;
     private ButtonGroup periodGroup;
     private String currentPeriod = "All Time";
 
     public LeaderboardPanel() {
-        this.quizResultDAO = new QuizResultDAO();
         this.categoryDAO = new CategoryDAO();
         
         setLayout(new BorderLayout(15, 20));
@@ -79,11 +89,28 @@ public class LeaderboardPanel extends JPanel {
         
         add(mainContent, BorderLayout.CENTER);
 
-        // Load data
-        loadCategories();
+        viewModel = new LeaderboardViewModel(tableModel, new LeaderboardViewModel.Listener() {
+            @Override
+            public void loadingChanged(boolean loading) {
+                setCursor(loading ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
+            }
+
+            @Override
+            public void podiumChanged(List<QuizResult> podium) {
+                showPodium(podium);
+            }
+
+            @Override
+            public void statsChanged(LeaderboardStats stats, boolean allCategories) {
+                showStats(stats, allCategories);
+            }
+        });
         
         // Configure listeners
         categoryComboBox.addActionListener(e -> loadLeaderboard());
+        
+        // Load data
+        refreshData();
     }
     
     private JPanel createHeaderPanel() {
@@ -598,7 +625,7 @@ public class LeaderboardPanel extends JPanel {
         scoreLabel.setForeground(medalColor);
         scoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         
-        double percentage = (double) result.getScore() / result.getTotalQuestions() * 100;
+        double percentage = (double) result.getCorrectAnswers() / result.getTotalQuestions() * 100;
         JLabel percentLabel = new JLabel(String.format("%.1f%%", percentage), SwingConstants.CENTER);
         percentLabel.setFont(new Font(percentLabel.getFont().getName(), Font.PLAIN, 14));
         percentLabel.setForeground(new Color(100, 100, 100));
@@ -852,18 +879,33 @@ public class LeaderboardPanel extends JPanel {
      * Refreshes the leaderboard data by reloading categories and leaderboard entries.
      */
     public void refreshData() {
-        SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
+        SwingWorker<List<Category>, Void> worker = new SwingWorker<List<Category>, Void>() {
+            @Override
+            protected List<Category> doInBackground() {
+                return categoryDAO.findAll();
+            }
+
             @Override
-            protected Void doInBackground() throws Exception {
-                loadCategories();
-                return null;
+            protected void done() {
+                try {
+                    showCategories(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("Error loading categories: " + e.getMessage());
+                }
             }
         };
         worker.execute();
     }
 
-    private void loadCategories() {
-        List<Category> categories = categoryDAO.findAll();
+    /**
+     * Fills the category selector, keeping the current selection if it still exists, then loads its leaderboard
+     */
+    private void showCategories(List<Category> categories) {
+        Category previous = (Category) categoryComboBox.getSelectedItem();
+        int previousId = previous != null ? previous.getCategoryId() : 0;
+        
+        // Each change to the items fires the selection listener; load once at the end instead
+        populatingCategories = true;
         categoryComboBox.removeAllItems();
         
         // First, organize categories into main categories and subcategories
@@ -906,10 +948,16 @@ public class LeaderboardPanel extends JPanel {
             }
         }
         
-        if (categories.size() > 0) {
-            categoryComboBox.setSelectedIndex(0);
-            loadLeaderboard();
+        int selectedIndex = 0;
+        for (int i = 0; i < categoryComboBox.getItemCount(); i++) {
+            if (categoryComboBox.getItemAt(i).getCategoryId() == previousId) {
+                selectedIndex = i;
+                break;
+            }
         }
+        categoryComboBox.setSelectedIndex(selectedIndex);
+        populatingCategories = false;
+        loadLeaderboard();
     }
     
     /**
@@ -938,35 +986,15 @@ public class LeaderboardPanel extends JPanel {
                     label.setText("    • " + category.getName());
                     label.setFont(label.getFont().deriveFont(Font.PLAIN));
                     
-                    // Set icon if we have one
-                    if (category.getIconPath() != null) {
-                        try {
-                            ImageIcon icon = new ImageIcon(category.getIconPath());
-                            Image img = icon.getImage().getScaledInstance(16, 16, Image.SCALE_SMOOTH);
-                            label.setIcon(new ImageIcon(img));
-                        } catch (Exception e) {
-                            label.setIcon(null);
-                        }
-                    } else {
-                        label.setIcon(null);
-                    }
+                    // Set icon if we have one; the list repaints once it has loaded
+                    label.setIcon(IconCache.get(category.getIconPath(), 16, 16, list));
                 } else {
                     // Main category - bold
                     label.setText(category.getName());
                     label.setFont(label.getFont().deriveFont(Font.BOLD));
                     
-                    // Set icon if we have one
-                    if (category.getIconPath() != null) {
-                        try {
-                            ImageIcon icon = new ImageIcon(category.getIconPath());
-                            Image img = icon.getImage().getScaledInstance(16, 16, Image.SCALE_SMOOTH);
-                            label.setIcon(new ImageIcon(img));
-                        } catch (Exception e) {
-                            label.setIcon(null);
-                        }
-                    } else {
-                        label.setIcon(null);
-                    }
+                    // Set icon if we have one; the list repaints once it has loaded
+                    label.setIcon(IconCache.get(category.getIconPath(), 16, 16, list));
                 }
             }
             
@@ -979,31 +1007,28 @@ public class LeaderboardPanel extends JPanel {
     
     private void loadLeaderboard() {
         Category selected = (Category) categoryComboBox.getSelectedItem();
-        if (selected == null) return;
-        
-        // Show loading indicator
-        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        if (selected == null || populatingCategories) return;
         
         // Update title with category name - handle the "All Categories" special case
+        LeaderboardPeriod period = LeaderboardPeriod.fromLabel(currentPeriod);
+        String periodSuffix = period.isWindowed() ? " (" + period.getLabel() + ")" : "";
         if (selected.getCategoryId() == 0) {
-            titleLabel.setText("Leaderboard: All Categories");
-            currentResults = quizResultDAO.getGlobalLeaderboard();
+            titleLabel.setText("Leaderboard: All Categories" + periodSuffix);
         } else {
-            titleLabel.setText("Leaderboard: " + selected.getName());
-            currentResults = quizResultDAO.getLeaderboard(selected.getCategoryId());
+            titleLabel.setText("Leaderboard: " + selected.getName() + periodSuffix);
         }
         
-        // Clear table
-        tableModel.setRowCount(0);
-        
-        // Clear top performers panel
+        viewModel.load(selected.getCategoryId(), period);
+    }
+    
+    /**
+     * Rebuilds the podium, or shows the empty state when there are no results
+     */
+    private void showPodium(List<QuizResult> podium) {
         topPerformersPanel.removeAll();
         
-        // Clear stats panel
-        statsPanel.removeAll();
-        
         // Check if we have results
-        if (currentResults.isEmpty()) {
+        if (podium.isEmpty()) {
             // Show empty state
             JPanel emptyStatePanel = new JPanel(new BorderLayout());
             emptyStatePanel.setOpaque(false);
@@ -1037,86 +1062,57 @@ public class LeaderboardPanel extends JPanel {
             }
             
             // Add top 3 performers to podium
-            int topCount = Math.min(3, currentResults.size());
-            for (int i = 0; i < topCount; i++) {
-                // Reorder podium: 2nd (left), 1st (center), 3rd (right)
-                int index;
-                if (i == 0) index = 1;      // 1st place in center
-                else if (i == 1) index = 0; // 2nd place on left
-                else index = 2;             // 3rd place on right
-                
-                QuizResult result = currentResults.get(i);
-                JPanel podiumItem = createPodiumItem(result, i + 1);
-                topPerformersPanel.add(podiumItem);
+            for (int i = 0; i < podium.size(); i++) {
+                topPerformersPanel.add(createPodiumItem(podium.get(i), i + 1));
             }
-            
-            // Populate table with all results
-            int rank = 1;
-            int totalScore = 0;
-            int totalQuestions = 0;
-            int totalCorrect = 0;
-            double bestScore = 0;
-            
-            for (QuizResult r : currentResults) {
-                // Calculate percentage
-                double percentage = 0;
-                if (r.getTotalQuestions() > 0) {
-                    percentage = (double) r.getScore() / r.getTotalQuestions() * 100;
-                    
-                    // Track stats
-                    totalScore += r.getScore();
-                    totalQuestions += r.getTotalQuestions();
-                    int correct = (int) (r.getScore() / (100.0 / r.getTotalQuestions()));
-                    totalCorrect += correct;
-                    
-                    if (percentage > bestScore) {
-                        bestScore = percentage;
-                    }
-                    
-                    // Add table row
-                    tableModel.addRow(new Object[]{
-                        rank++,
-                        r.getUsername(),
-                        r.getScore(),
-                        correct,
-                        r.getTotalQuestions(),
-                        percentage,
-                        r.getCompletedAt()
-                    });
-                }
+        }
+        
+        topPerformersPanel.revalidate();
+        topPerformersPanel.repaint();
+    }
+    
+    /**
+     * Rebuilds the summary stats; a null summary clears them
+     * @param allCategories true if the summary spans all categories, so it counts user and category pairs
+     */
+    private void showStats(LeaderboardStats stats, boolean allCategories) {
+        statsPanel.removeAll();
+        
+        if (stats != null) {
+            if (allCategories) {
+                JPanel entriesItem = createStatItem("Participants (per category)",
+                    String.valueOf(stats.getParticipants()), UIConstants.PRIMARY_COLOR);
+                entriesItem.setToolTipText("Each user counts once for every category they have a result in");
+                statsPanel.add(entriesItem);
+            } else {
+                statsPanel.add(createStatItem("Participants", String.valueOf(stats.getParticipants()), UIConstants.PRIMARY_COLOR));
             }
+            statsPanel.add(createStatItem("Best Score", String.format("%.1f%%", stats.getBestPercentage()), UIConstants.SUCCESS_COLOR));
             
-            // Add enhanced stats with visualizations
-            double avgPercentage = totalQuestions > 0 ? (double) totalScore / totalQuestions * 100 : 0;
+            JPanel averageItem = createStatItem("Average Score",
+                String.format("%.1f%% (median %d%%)", stats.getAveragePercentage(), stats.getMedianPercentage()),
+                UIConstants.SECONDARY_COLOR);
+            averageItem.setToolTipText(String.format("Top 10%%: %d%%+  |  Top 25%%: %d%%+  |  Bottom 25%%: below %d%%",
+                stats.getPercentile(90), stats.getPercentile(75), stats.getPercentile(25)));
+            statsPanel.add(averageItem);
             
-            statsPanel.add(createStatItem("Participants", String.valueOf(currentResults.size()), UIConstants.PRIMARY_COLOR));
-            statsPanel.add(createStatItem("Best Score", String.format("%.1f%%", bestScore), UIConstants.SUCCESS_COLOR));
-            statsPanel.add(createStatItem("Average Score", String.format("%.1f%%", avgPercentage), UIConstants.SECONDARY_COLOR));
-            statsPanel.add(createStatItem("Correct Answers", totalCorrect + "/" + totalQuestions, UIConstants.ACCENT_COLOR));
+            statsPanel.add(createStatItem("Correct Answers", stats.getTotalCorrect() + "/" + stats.getTotalQuestions(), UIConstants.ACCENT_COLOR));
         }
         
-        // Reset cursor
-        setCursor(Cursor.getDefaultCursor());
-        
-        // Refresh UI
-        topPerformersPanel.revalidate();
-        topPerformersPanel.repaint();
         statsPanel.revalidate();
         statsPanel.repaint();
-        leaderboardTable.revalidate();
-        leaderboardTable.repaint();
     }
     
     /**
      * Filters the leaderboard table by username
      */
     private void filterLeaderboardTable(String query) {
+        TableRowSorter<DefaultTableModel> sorter = (TableRowSorter<DefaultTableModel>) leaderboardTable.getRowSorter();
         if (query.isEmpty()) {
-            loadLeaderboard(); // Reset to show all
+            sorter.setRowFilter(null); // Reset to show all
             return;
         }
         
-        TableRowSorter<DefaultTableModel> sorter = (TableRowSorter<DefaultTableModel>) leaderboardTable.getRowSorter();
         sorter.setRowFilter(RowFilter.regexFilter("(?i)" + query, 1)); // Filter by username column
     }
     
@@ -1135,29 +1131,92 @@ public class LeaderboardPanel extends JPanel {
     }
     
     /**
-     * Highlights the current user's rank in the table
-     * (In a real app, would use the actual logged-in user ID)
+     * Shows the current user's rank in the selected category, with the users directly around them,
+     * and highlights their row if they are on the board
      */
     private void highlightUserRank() {
         // Reset filter first
         TableRowSorter<DefaultTableModel> sorter = (TableRowSorter<DefaultTableModel>) leaderboardTable.getRowSorter();
         sorter.setRowFilter(null);
-        
-        // This is a mock implementation - in a real app we would know the current user
-        // and scroll to their position in the table
-        if (tableModel.getRowCount() > 0) {
-            // For demo, just highlight a random row as the "current user"
-            int userRow = Math.min(tableModel.getRowCount() - 1, 2);
-            leaderboardTable.setRowSelectionInterval(userRow, userRow);
-            leaderboardTable.scrollRectToVisible(leaderboardTable.getCellRect(userRow, 0, true));
-            
-            // Show a tooltip
+
+        User user = SessionService.getInstance().getCurrentUser();
+        if (user == null) {
+            user = AuthService.getInstance().getCurrentUser();
+        }
+        Category selected = (Category) categoryComboBox.getSelectedItem();
+        if (user == null || selected == null) {
+            return;
+        }
+        if (selected.getCategoryId() == 0) {
+            JOptionPane.showMessageDialog(
+                this,
+                "Select a category to see your rank in it.",
+                "Your Ranking",
+                JOptionPane.INFORMATION_MESSAGE
+            );
+            return;
+        }
+
+        final User currentUser = user;
+        final int categoryId = selected.getCategoryId();
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        // The first lookup loads the rankings from the database
+        new SwingWorker<RankService.Standing, Void>() {
+            @Override
+            protected RankService.Standing doInBackground() {
+                return RankService.getInstance().getStanding(currentUser.getUserId(), categoryId, RANK_NEIGHBOURS);
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    showStanding(currentUser, selected, get());
+                } catch (Exception e) {
+                    System.err.println("Error looking up rank: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    private void showStanding(User user, Category category, RankService.Standing standing) {
+        if (standing == null) {
             JOptionPane.showMessageDialog(
                 this,
-                "Your current rank is #" + (userRow + 1),
+                "You have not completed a quiz in " + category.getName() + " yet.",
                 "Your Ranking",
                 JOptionPane.INFORMATION_MESSAGE
             );
+            return;
+        }
+
+        // Select the user's row if they made the board
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if (user.getUsername().equals(tableModel.getValueAt(row, 1))) {
+                int viewRow = leaderboardTable.convertRowIndexToView(row);
+                leaderboardTable.setRowSelectionInterval(viewRow, viewRow);
+                leaderboardTable.scrollRectToVisible(leaderboardTable.getCellRect(viewRow, 0, true));
+                break;
+            }
+        }
+
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("Your rank in %s is #%d of %d (%.1f percentile)%n%n",
+            category.getName(), standing.getRank(), standing.getTotal(), standing.getPercentile()));
+        int rank = standing.getRank() - standing.getAbove().size();
+        for (QuizResult r : standing.getAbove()) {
+            message.append(String.format("#%d  %s  %d%n", rank++, r.getUsername(), r.getScore()));
+        }
+        message.append(String.format("#%d  %s  %d  (you)%n", rank++, user.getUsername(), standing.getResult().getScore()));
+        for (QuizResult r : standing.getBelow()) {
+            message.append(String.format("#%d  %s  %d%n", rank++, r.getUsername(), r.getScore()));
         }
+
+        JOptionPane.showMessageDialog(
+            this,
+            message.toString(),
+            "Your Ranking",
+            JOptionPane.INFORMATION_MESSAGE
+        );
     }
-} 
\ No newline at end of file
+}
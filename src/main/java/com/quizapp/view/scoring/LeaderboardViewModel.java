@@ -0,0 +1,234 @@
+package com.quizapp.view.scoring;
+
+import com.quizapp.model.LeaderboardPeriod;
+import com.quizapp.model.LeaderboardStats;
+import com.quizapp.model.QuizResult;
+import com.quizapp.service.LeaderboardEngine;
+import com.quizapp.service.LeaderboardStatsService;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Loads leaderboards for {@link LeaderboardPanel} off the EDT and applies them as a diff. The rows,
+ * podium and stats (from {@link LeaderboardStatsService}) are computed in the background and compared
+ * with what is already shown, so the EDT only updates the cells that changed and rebuilds the podium
+ * or stats only when they changed.
+ * A new load supersedes any load still running; its result is dropped.
+ * <p>
+ * All methods must be called on the EDT.
+ */
+public class LeaderboardViewModel {
+    private static final int PODIUM_SIZE = 3;
+
+    /**
+     * Receives the parts of the leaderboard that are not table rows
+     */
+    public interface Listener {
+        void loadingChanged(boolean loading);
+
+        /**
+         * @param podium up to three best results, best first; empty if the board is empty
+         */
+        void podiumChanged(List<QuizResult> podium);
+
+        /**
+         * @param stats summary of everyone ranked on the board, or null if the board is empty
+         * @param allCategories true if the summary spans all categories, where each user counts once
+         *                      per category they have a result in
+         */
+        void statsChanged(LeaderboardStats stats, boolean allCategories);
+    }
+
+    private final DefaultTableModel tableModel;
+    private final Listener listener;
+    private Snapshot current = Snapshot.EMPTY;
+    private SwingWorker<Update, Void> worker;
+    private int generation;
+
+    public LeaderboardViewModel(DefaultTableModel tableModel, Listener listener) {
+        this.tableModel = tableModel;
+        this.listener = listener;
+    }
+
+    /**
+     * Loads a leaderboard in the background and applies it once loaded
+     * @param categoryId category to show, or 0 for the global board
+     */
+    public void load(int categoryId, LeaderboardPeriod period) {
+        if (worker != null) {
+            // Not interrupted: the engine may be warming from the database
+            worker.cancel(false);
+        }
+        int loadGeneration = ++generation;
+        Snapshot base = current;
+        listener.loadingChanged(true);
+
+        worker = new SwingWorker<Update, Void>() {
+            @Override
+            protected Update doInBackground() {
+                LeaderboardEngine engine = LeaderboardEngine.getInstance();
+                List<QuizResult> results = categoryId == 0
+                    ? engine.getGlobalLeaderboard(period)
+                    : engine.getLeaderboard(categoryId, period);
+                LeaderboardStats stats = LeaderboardStatsService.getInstance().getSummary(categoryId, period);
+                return Update.between(base, Snapshot.of(results, stats, categoryId == 0));
+            }
+
+            @Override
+            protected void done() {
+                // A newer load owns the view now
+                if (loadGeneration != generation) {
+                    return;
+                }
+                worker = null;
+                listener.loadingChanged(false);
+                try {
+                    apply(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("Error loading leaderboard: " + e.getMessage());
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    /**
+     * Results currently shown, best first
+     */
+    public List<QuizResult> getResults() {
+        return current.results;
+    }
+
+    /**
+     * Applies an update computed against the current snapshot. Loads are applied only by the latest
+     * generation, so the table still holds exactly the base rows the diff was computed from.
+     */
+    private void apply(Update update) {
+        Snapshot previous = current;
+        Snapshot next = update.snapshot;
+        current = next;
+
+        for (int row : update.changedRows) {
+            Object[] oldValues = previous.rows.get(row);
+            Object[] newValues = next.rows.get(row);
+            for (int column = 0; column < newValues.length; column++) {
+                if (!Objects.equals(oldValues[column], newValues[column])) {
+                    tableModel.setValueAt(newValues[column], row, column);
+                }
+            }
+        }
+        for (int row = previous.rows.size() - 1; row >= next.rows.size(); row--) {
+            tableModel.removeRow(row);
+        }
+        for (int row = previous.rows.size(); row < next.rows.size(); row++) {
+            tableModel.addRow(next.rows.get(row));
+        }
+
+        if (update.podiumChanged) {
+            listener.podiumChanged(next.podium);
+        }
+        if (update.statsChanged) {
+            listener.statsChanged(next.stats, next.allCategories);
+        }
+    }
+
+    /**
+     * Everything the panel shows for one board, derived from its results
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = of(List.of(), LeaderboardStats.EMPTY, false);
+
+        final List<QuizResult> results;
+        final List<Object[]> rows;
+        final List<QuizResult> podium;
+        // What the podium cards display, to tell whether they need rebuilding
+        final List<List<Object>> podiumContent;
+        final LeaderboardStats stats;
+        final boolean allCategories;
+
+        private Snapshot(List<QuizResult> results, List<Object[]> rows, List<QuizResult> podium,
+                         List<List<Object>> podiumContent, LeaderboardStats stats, boolean allCategories) {
+            this.results = results;
+            this.rows = rows;
+            this.podium = podium;
+            this.podiumContent = podiumContent;
+            this.stats = stats;
+            this.allCategories = allCategories;
+        }
+
+        /**
+         * @param stats summary of the whole board, which covers more users than the rows shown
+         */
+        static Snapshot of(List<QuizResult> results, LeaderboardStats stats, boolean allCategories) {
+            List<Object[]> rows = new ArrayList<>();
+            int rank = 1;
+
+            for (QuizResult r : results) {
+                if (r.getTotalQuestions() <= 0) {
+                    continue;
+                }
+                int correct = r.getCorrectAnswers();
+                double percentage = (double) correct / r.getTotalQuestions() * 100;
+
+                rows.add(new Object[]{
+                    rank++,
+                    r.getUsername(),
+                    r.getScore(),
+                    correct,
+                    r.getTotalQuestions(),
+                    percentage,
+                    r.getCompletedAt()
+                });
+            }
+
+            List<QuizResult> podium = List.copyOf(results.subList(0, Math.min(PODIUM_SIZE, results.size())));
+            List<List<Object>> podiumContent = new ArrayList<>();
+            for (QuizResult r : podium) {
+                podiumContent.add(Arrays.asList(r.getUserId(), r.getUsername(), r.getCategoryName(),
+                    r.getScore(), r.getCorrectAnswers(), r.getTotalQuestions(), r.getCompletedAt()));
+            }
+
+            return new Snapshot(List.copyOf(results), rows, podium, podiumContent,
+                stats.isEmpty() ? null : stats, allCategories);
+        }
+    }
+
+    /**
+     * A snapshot plus what changed relative to the snapshot it replaces
+     */
+    private static final class Update {
+        final Snapshot snapshot;
+        // Rows present in both snapshots whose values differ; rows past the shorter one are added or removed
+        final int[] changedRows;
+        final boolean podiumChanged;
+        final boolean statsChanged;
+
+        private Update(Snapshot snapshot, int[] changedRows, boolean podiumChanged, boolean statsChanged) {
+            this.snapshot = snapshot;
+            this.changedRows = changedRows;
+            this.podiumChanged = podiumChanged;
+            this.statsChanged = statsChanged;
+        }
+
+        static Update between(Snapshot base, Snapshot next) {
+            int common = Math.min(base.rows.size(), next.rows.size());
+            int[] changed = new int[common];
+            int count = 0;
+            for (int row = 0; row < common; row++) {
+                if (!Arrays.equals(base.rows.get(row), next.rows.get(row))) {
+                    changed[count++] = row;
+                }
+            }
+            // The first load always builds the podium, which starts out blank rather than empty-state
+            boolean podiumChanged = base == Snapshot.EMPTY || !base.podiumContent.equals(next.podiumContent);
+            return new Update(next, Arrays.copyOf(changed, count), podiumChanged,
+                !Objects.equals(base.stats, next.stats) || base.allCategories != next.allCategories);
+        }
+    }
+}
@@ -1,23 +1,5 @@
--- Create the database if it doesn't exist
-CREATE DATABASE IF NOT EXISTS quiz_db;
-
--- Create the user if it doesn't exist
--- CREATE USER IF NOT EXISTS 'root'@'localhost' IDENTIFIED BY 'ajar10gupta';
-
--- Grant privileges to the user
--- GRANT ALL PRIVILEGES ON quiz_db.* TO 'root'@'localhost';
-
--- Make sure the privileges are applied
--- FLUSH PRIVILEGES; 
-
-USE quiz_db;
-
--- Drop tables if they exist to avoid constraint issues
-DROP TABLE IF EXISTS quiz_results;
-DROP TABLE IF EXISTS answers;
-DROP TABLE IF EXISTS questions;
-DROP TABLE IF EXISTS categories;
-DROP TABLE IF EXISTS users;
+-- V1: baseline schema and seed data.
+-- Derived from quiz_db.sql without the DROP TABLE statements, so it never destroys data.
 
 -- Create users table
 CREATE TABLE IF NOT EXISTS users (
@@ -138,5 +120,4 @@ ON DUPLICATE KEY UPDATE question_id = question_id;
 INSERT INTO questions (category_id, question_text, options, correct_option_index)
 SELECT c.category_id, 'What is JDK?', 'Java Development Kit|Java Development Knowledge|Java Development Keyboard|Java Development Kernel', 0
 FROM categories c WHERE c.name = 'Basic' AND c.is_subcategory = TRUE
-ON DUPLICATE KEY UPDATE question_id = question_id; 
-
+ON DUPLICATE KEY UPDATE question_id = question_id;
@@ -1,10 +1,9 @@
--- Database update script to add is_active column to users table
-USE quiz_db;
+-- V2: add users.is_active to databases created before the column existed
 
 -- Check if the is_active column already exists
 SET @exists = 0;
 SELECT 1 INTO @exists FROM information_schema.columns 
-WHERE table_schema = 'quiz_db' AND table_name = 'users' AND column_name = 'is_active';
+WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'is_active';
 
 -- Add the is_active column if it doesn't exist
 SET @query = IF(@exists = 0, 
@@ -12,4 +11,4 @@ SET @query = IF(@exists = 0,
     'SELECT "is_active column already exists" as message');
 PREPARE stmt FROM @query;
 EXECUTE stmt;
-DEALLOCATE PREPARE stmt; 
\ No newline at end of file
+DEALLOCATE PREPARE stmt;
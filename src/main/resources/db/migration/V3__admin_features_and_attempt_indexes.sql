@@ -0,0 +1,114 @@
+-- V3: admin and analytics tables from admin_features_updates.sql, written for MySQL,
+-- plus composite indexes backing keyset pagination of quiz_attempts.
+
+-- 1. User management columns
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.columns
+WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'last_login_date';
+SET @query = IF(@exists = 0,
+    'ALTER TABLE users ADD COLUMN last_login_date TIMESTAMP NULL',
+    'SELECT "last_login_date column already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.columns
+WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'password_reset_token';
+SET @query = IF(@exists = 0,
+    'ALTER TABLE users ADD COLUMN password_reset_token VARCHAR(100) NULL',
+    'SELECT "password_reset_token column already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.columns
+WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'password_reset_expiry';
+SET @query = IF(@exists = 0,
+    'ALTER TABLE users ADD COLUMN password_reset_expiry TIMESTAMP NULL',
+    'SELECT "password_reset_expiry column already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. Analytics tracking
+CREATE TABLE IF NOT EXISTS quiz_attempts (
+    attempt_id INT PRIMARY KEY AUTO_INCREMENT,
+    user_id INT NOT NULL,
+    quiz_id INT NOT NULL,
+    category_id INT NOT NULL,
+    score DECIMAL(5,2) NOT NULL,
+    max_score DECIMAL(5,2) NOT NULL,
+    completion_time INT,
+    attempt_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id),
+    FOREIGN KEY (category_id) REFERENCES categories(category_id)
+);
+
+CREATE TABLE IF NOT EXISTS question_responses (
+    response_id INT PRIMARY KEY AUTO_INCREMENT,
+    attempt_id INT NOT NULL,
+    question_id INT NOT NULL,
+    selected_answer_id INT,
+    is_correct BOOLEAN NOT NULL,
+    time_taken INT,
+    FOREIGN KEY (attempt_id) REFERENCES quiz_attempts(attempt_id),
+    FOREIGN KEY (question_id) REFERENCES questions(question_id)
+);
+
+-- 3. Content moderation
+CREATE TABLE IF NOT EXISTS pending_questions (
+    pending_id INT PRIMARY KEY AUTO_INCREMENT,
+    submitter_id INT NOT NULL,
+    category_id INT NOT NULL,
+    question_text TEXT NOT NULL,
+    difficulty INT NOT NULL DEFAULT 1,
+    submission_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    status ENUM('pending', 'approved', 'rejected') DEFAULT 'pending',
+    reviewer_id INT,
+    review_date TIMESTAMP NULL,
+    rejection_reason TEXT,
+    FOREIGN KEY (submitter_id) REFERENCES users(user_id),
+    FOREIGN KEY (category_id) REFERENCES categories(category_id),
+    FOREIGN KEY (reviewer_id) REFERENCES users(user_id)
+);
+
+CREATE TABLE IF NOT EXISTS pending_answers (
+    pending_answer_id INT PRIMARY KEY AUTO_INCREMENT,
+    pending_question_id INT NOT NULL,
+    answer_text TEXT NOT NULL,
+    is_correct BOOLEAN NOT NULL DEFAULT FALSE,
+    FOREIGN KEY (pending_question_id) REFERENCES pending_questions(pending_id) ON DELETE CASCADE
+);
+
+-- 4. Seek indexes for paging attempts newest-first within a user, quiz or category
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'quiz_attempts' AND index_name = 'idx_attempts_user_date' LIMIT 1;
+SET @query = IF(@exists = 0,
+    'CREATE INDEX idx_attempts_user_date ON quiz_attempts (user_id, attempt_date, attempt_id)',
+    'SELECT "idx_attempts_user_date already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'quiz_attempts' AND index_name = 'idx_attempts_quiz_date' LIMIT 1;
+SET @query = IF(@exists = 0,
+    'CREATE INDEX idx_attempts_quiz_date ON quiz_attempts (quiz_id, attempt_date, attempt_id)',
+    'SELECT "idx_attempts_quiz_date already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'quiz_attempts' AND index_name = 'idx_attempts_category_date' LIMIT 1;
+SET @query = IF(@exists = 0,
+    'CREATE INDEX idx_attempts_category_date ON quiz_attempts (category_id, attempt_date, attempt_id)',
+    'SELECT "idx_attempts_category_date already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,21 @@
+-- V4: client-generated id on quiz_results so write-behind retries never insert a result twice
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.columns
+WHERE table_schema = DATABASE() AND table_name = 'quiz_results' AND column_name = 'client_id';
+SET @query = IF(@exists = 0,
+    'ALTER TABLE quiz_results ADD COLUMN client_id VARCHAR(36) NULL',
+    'SELECT "client_id column already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'quiz_results' AND index_name = 'uq_quiz_results_client_id';
+SET @query = IF(@exists = 0,
+    'CREATE UNIQUE INDEX uq_quiz_results_client_id ON quiz_results (client_id)',
+    'SELECT "uq_quiz_results_client_id index already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
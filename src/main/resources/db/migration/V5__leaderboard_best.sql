@@ -0,0 +1,25 @@
+-- V5: materialized leaderboard holding each user's best result per category.
+-- Rows are upserted together with every quiz_results insert; the indexes match the
+-- leaderboard ORDER BY so reads are index-ordered top-N lookups.
+
+CREATE TABLE IF NOT EXISTS leaderboard_best (
+    user_id INT NOT NULL,
+    category_id INT NOT NULL,
+    result_id INT NOT NULL,
+    score INT NOT NULL,
+    total_questions INT NOT NULL,
+    time_taken INT DEFAULT 0,
+    completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, category_id),
+    INDEX idx_leaderboard_best_category_rank (category_id, score DESC, completed_at ASC),
+    INDEX idx_leaderboard_best_global_rank (score DESC, completed_at ASC),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (category_id) REFERENCES categories(category_id) ON DELETE CASCADE
+);
+
+-- Backfill from existing results: rows arrive best first, so the first row per key wins
+INSERT INTO leaderboard_best (user_id, category_id, result_id, score, total_questions, time_taken, completed_at)
+SELECT r.user_id, r.category_id, r.result_id, r.score, r.total_questions, r.time_taken, r.completed_at
+FROM quiz_results r
+ORDER BY r.score DESC, r.completed_at ASC, r.result_id ASC
+ON DUPLICATE KEY UPDATE leaderboard_best.user_id = leaderboard_best.user_id;
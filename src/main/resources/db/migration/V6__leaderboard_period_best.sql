@@ -0,0 +1,38 @@
+-- V6: best result per user and category within each day, week (from Monday) and month.
+-- Rows are upserted together with every quiz_results insert, keyed by the period they fall in,
+-- so a windowed leaderboard is the same index-ordered top-N lookup as the all-time one.
+-- Periods are leading key columns, which makes expiring a finished period a range delete.
+
+CREATE TABLE IF NOT EXISTS leaderboard_period_best (
+    period_type VARCHAR(10) NOT NULL,
+    period_start DATE NOT NULL,
+    user_id INT NOT NULL,
+    category_id INT NOT NULL,
+    result_id INT NOT NULL,
+    score INT NOT NULL,
+    total_questions INT NOT NULL,
+    time_taken INT DEFAULT 0,
+    completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (period_type, period_start, user_id, category_id),
+    INDEX idx_leaderboard_period_category_rank (period_type, period_start, category_id, score DESC, completed_at ASC),
+    INDEX idx_leaderboard_period_global_rank (period_type, period_start, score DESC, completed_at ASC),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (category_id) REFERENCES categories(category_id) ON DELETE CASCADE
+);
+
+-- Backfill the current periods only; older ones would be expired straight away.
+-- Rows arrive best first, so the first row per key wins.
+INSERT INTO leaderboard_period_best (period_type, period_start, user_id, category_id, result_id, score, total_questions, time_taken, completed_at)
+SELECT p.period_type,
+       CASE p.period_type
+           WHEN 'DAY' THEN DATE(r.completed_at)
+           WHEN 'WEEK' THEN DATE_SUB(DATE(r.completed_at), INTERVAL WEEKDAY(r.completed_at) DAY)
+           ELSE DATE_SUB(DATE(r.completed_at), INTERVAL DAYOFMONTH(r.completed_at) - 1 DAY)
+       END,
+       r.user_id, r.category_id, r.result_id, r.score, r.total_questions, r.time_taken, r.completed_at
+FROM quiz_results r
+CROSS JOIN (SELECT 'DAY' AS period_type UNION ALL SELECT 'WEEK' UNION ALL SELECT 'MONTH') p
+WHERE r.completed_at >= LEAST(DATE_SUB(CURDATE(), INTERVAL WEEKDAY(CURDATE()) DAY),
+                              DATE_SUB(CURDATE(), INTERVAL DAYOFMONTH(CURDATE()) - 1 DAY))
+ORDER BY r.score DESC, r.completed_at ASC, r.result_id ASC
+ON DUPLICATE KEY UPDATE leaderboard_period_best.user_id = leaderboard_period_best.user_id;
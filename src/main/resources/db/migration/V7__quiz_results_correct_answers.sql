@@ -0,0 +1,46 @@
+-- V7: store the number of correct answers with every result. score is a sum of question points,
+-- not a percentage, so the count cannot be read back from it once questions are worth different
+-- points. Existing results were scored at 10 points per correct answer, which gives their count;
+-- score itself is left as stored. Only rows without a count are filled, so a re-run is harmless.
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.columns
+WHERE table_schema = DATABASE() AND table_name = 'quiz_results' AND column_name = 'correct_answers';
+SET @query = IF(@exists = 0,
+    'ALTER TABLE quiz_results ADD COLUMN correct_answers INT NULL AFTER score',
+    'SELECT "quiz_results.correct_answers column already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.columns
+WHERE table_schema = DATABASE() AND table_name = 'leaderboard_best' AND column_name = 'correct_answers';
+SET @query = IF(@exists = 0,
+    'ALTER TABLE leaderboard_best ADD COLUMN correct_answers INT NULL AFTER score',
+    'SELECT "leaderboard_best.correct_answers column already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @exists = 0;
+SELECT 1 INTO @exists FROM information_schema.columns
+WHERE table_schema = DATABASE() AND table_name = 'leaderboard_period_best' AND column_name = 'correct_answers';
+SET @query = IF(@exists = 0,
+    'ALTER TABLE leaderboard_period_best ADD COLUMN correct_answers INT NULL AFTER score',
+    'SELECT "leaderboard_period_best.correct_answers column already exists" as message');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+UPDATE quiz_results
+SET correct_answers = LEAST(total_questions, score DIV 10)
+WHERE correct_answers IS NULL;
+
+UPDATE leaderboard_best
+SET correct_answers = LEAST(total_questions, score DIV 10)
+WHERE correct_answers IS NULL;
+
+UPDATE leaderboard_period_best
+SET correct_answers = LEAST(total_questions, score DIV 10)
+WHERE correct_answers IS NULL;
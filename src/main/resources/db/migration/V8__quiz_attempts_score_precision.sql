@@ -0,0 +1,6 @@
+-- V8: widen quiz_attempts.score and max_score. Every question is worth 10 points, so DECIMAL(5,2)
+-- overflowed the maximum score of any quiz with 100 or more questions.
+
+ALTER TABLE quiz_attempts
+    MODIFY COLUMN score DECIMAL(10,2) NOT NULL,
+    MODIFY COLUMN max_score DECIMAL(10,2) NOT NULL;
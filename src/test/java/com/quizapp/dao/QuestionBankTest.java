@@ -0,0 +1,61 @@
+package com.quizapp.dao;
+
+import com.quizapp.model.Question;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QuestionBankTest {
+
+    @Test
+    void neighboursOfEasyTopUpFromTheNextEasiestLevelFirst() {
+        QuestionBank bank = QuestionBank.of(questionsForDifficulties(5, 4, 3, 2, 1));
+
+        assertEquals(List.of("MEDIUM_EASY", "MEDIUM", "MEDIUM_HARD", "HARD"), bank.neighboursOf("EASY"));
+    }
+
+    @Test
+    void neighboursOfHardTopUpFromTheNextHardestLevelFirst() {
+        QuestionBank bank = QuestionBank.of(questionsForDifficulties(1, 2, 3, 4, 5));
+
+        assertEquals(List.of("MEDIUM_HARD", "MEDIUM", "MEDIUM_EASY", "EASY"), bank.neighboursOf("HARD"));
+    }
+
+    @Test
+    void neighboursOfMediumPreferEasierLevelsOnTies() {
+        QuestionBank bank = QuestionBank.of(questionsForDifficulties(1, 2, 3, 4, 5));
+
+        assertEquals(List.of("MEDIUM_EASY", "MEDIUM_HARD", "EASY", "HARD"), bank.neighboursOf("medium"));
+    }
+
+    @Test
+    void neighboursOnlyIncludeLevelsPresentInTheBank() {
+        QuestionBank bank = QuestionBank.of(questionsForDifficulties(1, 2, 5));
+
+        assertEquals(List.of("MEDIUM_EASY", "HARD"), bank.neighboursOf("EASY"));
+    }
+
+    @Test
+    void unknownLevelsSortAfterTheKnownOnes() {
+        List<Question> questions = questionsForDifficulties(1, 5);
+        Question custom = new Question();
+        custom.setDifficultyLevel("EXPERT");
+        questions.add(custom);
+        QuestionBank bank = QuestionBank.of(questions);
+
+        assertEquals(List.of("HARD", "EXPERT"), bank.neighboursOf("EASY"));
+    }
+
+    private static List<Question> questionsForDifficulties(int... difficulties) {
+        List<Question> questions = new ArrayList<>();
+        for (int difficulty : difficulties) {
+            Question question = new Question();
+            question.setDifficulty(difficulty);
+            questions.add(question);
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,25 @@
+package com.quizapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class DatabaseInitializerTest {
+
+    @Test
+    void mergingLinesChangesTheChecksum() {
+        String split = "ALTER TABLE users\nADD COLUMN age INT;";
+        String merged = "ALTER TABLE usersADD COLUMN age INT;";
+
+        assertNotEquals(DatabaseInitializer.checksum(split), DatabaseInitializer.checksum(merged));
+    }
+
+    @Test
+    void lineEndingsAndTrailingWhitespaceDoNotChangeTheChecksum() {
+        String unix = "CREATE TABLE a (id INT);\nCREATE TABLE b (id INT);";
+        String windows = "CREATE TABLE a (id INT);   \r\nCREATE TABLE b (id INT);\r";
+
+        assertEquals(DatabaseInitializer.checksum(unix), DatabaseInitializer.checksum(windows));
+    }
+}
@@ -0,0 +1,42 @@
+package com.quizapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OptionCodecTest {
+
+    @Test
+    void plainOptionsKeepTheOriginalFormat() {
+        List<String> options = List.of("A programming language", "A coffee brand", "A game");
+
+        assertEquals(String.join("|", options), OptionCodec.encode(options));
+        assertEquals(options, OptionCodec.decode(OptionCodec.encode(options)));
+    }
+
+    @Test
+    void optionsWithPipesAndBackslashesRoundTrip() {
+        List<String> options = List.of("a|b", "C:\\temp\\", "\\d+", "\\\\server\\share", "plain");
+
+        assertEquals(options, OptionCodec.decode(OptionCodec.encode(options)));
+    }
+
+    @Test
+    void legacyRowsWithBackslashesDecodeAsTheyWereWritten() {
+        // Written by String.join("|", ...) before escaping existed
+        List<String> written = List.of("C:\\temp\\", "\\\\d", "x");
+        String legacy = String.join("|", written);
+
+        assertEquals(written, OptionCodec.decode(legacy));
+        assertEquals(Arrays.asList(legacy.split("\\|")), OptionCodec.decode(legacy));
+    }
+
+    @Test
+    void trailingEmptyOptionsAreDropped() {
+        assertEquals(List.of("a", "b"), OptionCodec.decode("a|b||"));
+        assertEquals(List.of(), OptionCodec.decode(""));
+    }
+}